@@ -0,0 +1,27 @@
+package com.assignment.employee.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the selected benchmarks with the GC profiler attached and writes the results as JSON.
+ * Usage: {@code BenchmarkRunner [include-regex] [result-file]}.
+ */
+public class BenchmarkRunner {
+    public static void main(String[] args) throws RunnerException {
+        String includes = args.length > 0 ? args[0] : ".*";
+        String resultFile = args.length > 1 ? args[1] : "target/jmh-result.json";
+
+        Options options = new OptionsBuilder()
+                .include(includes)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultFile)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,81 @@
+package com.assignment.employee.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Keeps a fixed number of HTTP/1.1 connections busy: each sends its next GET as soon as the
+ * previous one answers, until the deadline. Successful requests are recorded in the histogram.
+ */
+class ClosedLoopLoad {
+    private final Supplier<URI> uris;
+    private final HttpClient client;
+    private final LatencyHistogram histogram;
+    private final long deadline;
+    private final LongAdder inFlight = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    private ClosedLoopLoad(Supplier<URI> uris, HttpClient client, LatencyHistogram histogram, long deadline) {
+        this.uris = uris;
+        this.client = client;
+        this.histogram = histogram;
+        this.deadline = deadline;
+    }
+
+    /**
+     * Runs the load and returns once every connection has received its last response.
+     * Pass a null histogram for warm-up.
+     */
+    static ClosedLoopLoad run(Supplier<URI> uris, int connections, Duration duration, LatencyHistogram histogram)
+            throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(executor)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        ClosedLoopLoad load = new ClosedLoopLoad(uris, client, histogram, System.nanoTime() + duration.toNanos());
+        for (int i = 0; i < connections; i++) {
+            load.next();
+        }
+        while (load.inFlight.sum() > 0) {
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+        executor.shutdownNow();
+        return load;
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    private void next() {
+        if (System.nanoTime() >= deadline) {
+            return;
+        }
+        HttpRequest request = HttpRequest.newBuilder(uris.get())
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+        long start = System.nanoTime();
+        inFlight.increment();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, failure) -> {
+            long elapsed = System.nanoTime() - start;
+            if (failure != null || response.statusCode() != 200) {
+                errors.increment();
+            } else if (histogram != null) {
+                histogram.record(elapsed);
+            }
+            next();
+            inFlight.decrement();
+        });
+    }
+}
@@ -0,0 +1,75 @@
+package com.assignment.employee.benchmark;
+
+import com.assignment.employee.entity.Employee;
+import com.assignment.employee.repository.EmployeeRepository;
+import com.assignment.employee.repository.EmployeeSpecifications;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Raw repository cost of each lookup strategy, without the service layer's mapping.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeRepositoryLookupBenchmark {
+    private static final int SAMPLE_SIZE = KeyCursor.SAMPLE_SIZE;
+
+    @Param({"1000", "100000", "1000000"})
+    private int rows;
+
+    @Param({"specifications", "hql", "native"})
+    private String strategy;
+
+    private SeededEmployeeDatabase database;
+    private EmployeeRepository employeeRepository;
+    private String[] emails;
+    private String[] names;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new SeededEmployeeDatabase(rows);
+        employeeRepository = database.getBean(EmployeeRepository.class);
+
+        List<Integer> sample = database.sampleRows(SAMPLE_SIZE);
+        emails = sample.stream().map(SeededEmployeeDatabase::emailOf).toArray(String[]::new);
+        names = sample.stream().map(SeededEmployeeDatabase::nameOf).toArray(String[]::new);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public Optional<Employee> findByEmail(KeyCursor cursor) {
+        String email = emails[cursor.next()];
+        switch (strategy) {
+            case "specifications":
+                return employeeRepository.findOne(EmployeeSpecifications.hasEmail(email));
+            case "hql":
+                return employeeRepository.findByEmailUsingHQL(email);
+            default:
+                return employeeRepository.findByEmailUsingNativeSQL(email);
+        }
+    }
+
+    @Benchmark
+    public Optional<Employee> findByName(KeyCursor cursor) {
+        String name = names[cursor.next()];
+        switch (strategy) {
+            case "specifications":
+                return employeeRepository.findOne(EmployeeSpecifications.hasName(name));
+            case "hql":
+                return employeeRepository.findByNameUsingHQL(name);
+            default:
+                return employeeRepository.findByNameUsingNativeSQL(name);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.assignment.employee.benchmark;
+
+import com.assignment.employee.dto.EmployeeResponse;
+import com.assignment.employee.service.EmployeeService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end service cost of each lookup strategy, including the transaction
+ * boundary and the mapping to {@link EmployeeResponse}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeServiceLookupBenchmark {
+    private static final int SAMPLE_SIZE = KeyCursor.SAMPLE_SIZE;
+
+    @Param({"1000", "100000", "1000000"})
+    private int rows;
+
+    @Param({"specifications", "hql", "native"})
+    private String strategy;
+
+    private SeededEmployeeDatabase database;
+    private EmployeeService employeeService;
+    private String[] emails;
+    private String[] names;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new SeededEmployeeDatabase(rows);
+        employeeService = database.getBean(EmployeeService.class);
+
+        List<Integer> sample = database.sampleRows(SAMPLE_SIZE);
+        emails = sample.stream().map(SeededEmployeeDatabase::emailOf).toArray(String[]::new);
+        names = sample.stream().map(SeededEmployeeDatabase::nameOf).toArray(String[]::new);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public EmployeeResponse getByEmail(KeyCursor cursor) {
+        String email = emails[cursor.next()];
+        switch (strategy) {
+            case "specifications":
+                return employeeService.getEmployeeByEmailUsingSpecifications(email);
+            case "hql":
+                return employeeService.getEmployeeByEmailUsingHQL(email);
+            default:
+                return employeeService.getEmployeeByEmailUsingNativeSQL(email);
+        }
+    }
+
+    @Benchmark
+    public EmployeeResponse getByName(KeyCursor cursor) {
+        String name = names[cursor.next()];
+        switch (strategy) {
+            case "specifications":
+                return employeeService.getEmployeeByNameUsingSpecifications(name);
+            case "hql":
+                return employeeService.getEmployeeByNameUsingHQL(name);
+            default:
+                return employeeService.getEmployeeByNameUsingNativeSQL(name);
+        }
+    }
+}
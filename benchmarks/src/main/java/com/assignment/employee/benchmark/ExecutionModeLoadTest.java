@@ -0,0 +1,79 @@
+package com.assignment.employee.benchmark;
+
+import org.springframework.boot.WebApplicationType;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Closed-loop HTTP load against {@code GET /api/employees/email/{email}/hql} with the servlet stack
+ * running on platform threads or on virtual threads. Each of the {@code N} simulated connections
+ * sends its next request as soon as the previous one answers; every SELECT is delayed by
+ * {@code query-delay} to stand in for a real database. JMH drives methods rather than sockets, so
+ * this is a plain main class.
+ * <p>
+ * Usage: {@code ExecutionModeLoadTest mode=platform|virtual connections=100,1000,10000
+ * duration=20s warmup=5s query-delay=5ms pool=10 result=target/load-platform.json}.
+ * Virtual mode needs a JDK 21 runtime; on older runtimes Spring Boot silently keeps platform threads.
+ */
+public class ExecutionModeLoadTest {
+    private static final int ROWS = 100_000;
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = LoadTestSupport.parse(args);
+        String mode = options.getOrDefault("mode", "platform");
+        boolean virtual = mode.equals("virtual");
+        List<Integer> connections = LoadTestSupport.connections(options.getOrDefault("connections", "100,1000,10000"));
+        Duration duration = LoadTestSupport.duration(options.getOrDefault("duration", "20s"));
+        Duration warmup = LoadTestSupport.duration(options.getOrDefault("warmup", "5s"));
+        Duration queryDelay = LoadTestSupport.duration(options.getOrDefault("query-delay", "5ms"));
+        String pool = options.get("pool");
+        Path result = Path.of(options.getOrDefault("result", "target/load-" + mode + ".json"));
+
+        if (virtual && Runtime.version().feature() < 21) {
+            System.err.println("WARNING: virtual mode requested on Java " + Runtime.version()
+                    + "; request handling will stay on platform threads");
+        }
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("server.tomcat.max-connections", 20_000);
+        properties.put("server.tomcat.accept-count", 20_000);
+        properties.put("spring.jpa.properties.hibernate.session_factory.statement_inspector", SlowQueries.class.getName());
+        if (virtual) {
+            properties.put("spring.profiles.active", "virtual-threads");
+        }
+        if (pool != null) {
+            properties.put("spring.datasource.hikari.maximum-pool-size", pool);
+        }
+
+        List<String> reports = new ArrayList<>();
+        try (SeededEmployeeDatabase database = new SeededEmployeeDatabase(ROWS, properties, WebApplicationType.SERVLET)) {
+            SlowQueries.delayMillis = queryDelay.toMillis();
+            String base = "http://localhost:" + database.getLocalPort() + "/api/employees/email/";
+            Supplier<URI> uris = () -> URI.create(
+                    base + SeededEmployeeDatabase.emailOf(1 + ThreadLocalRandom.current().nextInt(ROWS)) + "/hql");
+            for (int count : connections) {
+                ClosedLoopLoad.run(uris, count, warmup, null);
+                LatencyHistogram histogram = new LatencyHistogram();
+                ClosedLoopLoad run = ClosedLoopLoad.run(uris, count, duration, histogram);
+                double throughput = histogram.count() / (duration.toNanos() / 1e9);
+                String report = String.format(Locale.ROOT,
+                        "{\"mode\":\"%s\",\"connections\":%d,\"requests\":%d,\"errors\":%d,\"throughputPerSecond\":%.1f,"
+                                + "\"p50Millis\":%.2f,\"p99Millis\":%.2f,\"p999Millis\":%.2f}",
+                        mode, count, histogram.count(), run.errors(), throughput,
+                        histogram.percentileMillis(0.50), histogram.percentileMillis(0.99),
+                        histogram.percentileMillis(0.999));
+                System.out.println(report);
+                reports.add(report);
+            }
+        } finally {
+            SlowQueries.delayMillis = 0;
+        }
+        LoadTestSupport.write(result, reports);
+    }
+}
@@ -0,0 +1,76 @@
+package com.assignment.employee.benchmark;
+
+import com.assignment.employee.dto.CreateEmployeeRequest;
+import com.assignment.employee.dto.EmployeeResponse;
+import com.assignment.employee.service.EmployeeService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Insert throughput of {@code createEmployee} with one transaction per create versus group
+ * commit, at 1, 16 and 256 concurrent writers. Every create uses a fresh email.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GroupCommitBenchmark {
+    private static final int ROWS = 1_000;
+
+    @Param({"false", "true"})
+    private boolean groupCommit;
+
+    @Param({"1ms"})
+    private String linger;
+
+    @Param({"64"})
+    private int maxSize;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private SeededEmployeeDatabase database;
+    private EmployeeService employeeService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new SeededEmployeeDatabase(ROWS, Map.of(
+                "employee.group-commit.enabled", groupCommit,
+                "employee.group-commit.linger", linger,
+                "employee.group-commit.max-size", maxSize,
+                "spring.datasource.hikari.maximum-pool-size", 16));
+        employeeService = database.getBean(EmployeeService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public EmployeeResponse create1Writer() {
+        return create();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public EmployeeResponse create16Writers() {
+        return create();
+    }
+
+    @Benchmark
+    @Threads(256)
+    public EmployeeResponse create256Writers() {
+        return create();
+    }
+
+    private EmployeeResponse create() {
+        long id = sequence.incrementAndGet();
+        return employeeService.createEmployee(
+                new CreateEmployeeRequest("Writer " + id, "writer" + id + "@bench.example.com", "9000000000"));
+    }
+}
@@ -0,0 +1,58 @@
+package com.assignment.employee.benchmark;
+
+import com.assignment.employee.dto.EmployeeResponse;
+import com.assignment.employee.service.EmployeeService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the metrics layer on the email lookup hot path: the {@code employee.service} timer
+ * aspect plus Hibernate statistics, against the same application with both switched off. With
+ * {@code cache=true} the lookup is served from the result cache, so the timer is compared with the
+ * cheapest path the service has; that is where a 1% budget is tightest.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InstrumentationOverheadBenchmark {
+    private static final int ROWS = 100_000;
+    private static final int SAMPLE_SIZE = KeyCursor.SAMPLE_SIZE;
+
+    @Param({"false", "true"})
+    private boolean instrumented;
+
+    @Param({"false", "true"})
+    private boolean cache;
+
+    private SeededEmployeeDatabase database;
+    private EmployeeService employeeService;
+    private String[] emails;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new SeededEmployeeDatabase(ROWS, Map.of(
+                "employee.metrics.enabled", instrumented,
+                "spring.jpa.properties.hibernate.generate_statistics", instrumented,
+                "employee.cache.enabled", cache));
+        employeeService = database.getBean(EmployeeService.class);
+
+        List<Integer> sample = database.sampleRows(SAMPLE_SIZE);
+        emails = sample.stream().map(SeededEmployeeDatabase::emailOf).toArray(String[]::new);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public EmployeeResponse getByEmail(KeyCursor cursor) {
+        return employeeService.getEmployeeByEmailUsingHQL(emails[cursor.next()]);
+    }
+}
@@ -0,0 +1,129 @@
+package com.assignment.employee.benchmark;
+
+import com.assignment.employee.service.EmployeeJsonCache;
+import com.assignment.employee.service.EmployeeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of answering a lookup for a hot employee (a result-cache hit) through the Jackson message
+ * converter ({@code converter}) and from the pre-encoded JSON bytes ({@code preEncoded}).
+ * {@code write} covers the lookup and the body write in-process, which is where the two paths
+ * differ; {@code http} is the whole request through Tomcat and Spring MVC. Run with
+ * {@code -prof gc} for the bytes allocated per request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonResponseBenchmark {
+    private static final int ROWS = 1_000;
+    private static final int SAMPLE_SIZE = KeyCursor.SAMPLE_SIZE;
+
+    @Param({"converter", "preEncoded"})
+    private String path;
+
+    private SeededEmployeeDatabase database;
+    private EmployeeService employeeService;
+    private EmployeeJsonCache employeeJsonCache;
+    private MappingJackson2HttpMessageConverter jsonConverter;
+    private ByteArrayHttpMessageConverter bytesConverter;
+    private HttpClient client;
+    private String[] emails;
+    private HttpRequest[] requests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean preEncoded = path.equals("preEncoded");
+        database = new SeededEmployeeDatabase(ROWS, Map.of(
+                "server.port", 0,
+                // hot employees: both paths start from a result-cache hit
+                "employee.cache.enabled", true,
+                "employee.json-cache.enabled", preEncoded), WebApplicationType.SERVLET);
+        employeeService = database.getBean(EmployeeService.class);
+        employeeJsonCache = database.getBean(EmployeeJsonCache.class);
+        jsonConverter = new MappingJackson2HttpMessageConverter(database.getBean(ObjectMapper.class));
+        bytesConverter = new ByteArrayHttpMessageConverter();
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        List<Integer> sample = database.sampleRows(SAMPLE_SIZE);
+        emails = sample.stream().map(SeededEmployeeDatabase::emailOf).toArray(String[]::new);
+        requests = new HttpRequest[SAMPLE_SIZE];
+        String base = "http://localhost:" + database.getLocalPort() + "/api/employees/email/";
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            requests[i] = HttpRequest.newBuilder(URI.create(base + emails[i] + "/hql")).build();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public long write(KeyCursor cursor) throws Exception {
+        String email = emails[cursor.next()];
+        DiscardingOutputMessage message = new DiscardingOutputMessage();
+        if (path.equals("preEncoded")) {
+            byte[] json = employeeJsonCache.get(email, () -> employeeService.getEmployeeByEmailUsingHQL(email)).getJson();
+            bytesConverter.write(json, MediaType.APPLICATION_JSON, message);
+        } else {
+            jsonConverter.write(employeeService.getEmployeeByEmailUsingHQL(email), MediaType.APPLICATION_JSON, message);
+        }
+        return message.written;
+    }
+
+    @Benchmark
+    public int http(KeyCursor cursor) throws Exception {
+        HttpResponse<byte[]> response = client.send(requests[cursor.next()], HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Expected 200, got " + response.statusCode());
+        }
+        return response.body().length;
+    }
+
+    /**
+     * Stands in for the servlet response: counts the body bytes and drops them.
+     */
+    private static final class DiscardingOutputMessage extends OutputStream implements HttpOutputMessage {
+        private final HttpHeaders headers = new HttpHeaders();
+        private long written;
+
+        @Override
+        public OutputStream getBody() {
+            return this;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public void write(int b) {
+            written++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            written += len;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.assignment.employee.benchmark;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Per-thread round-robin index into a benchmark's pre-computed key sample, which must hold
+ * {@link #SAMPLE_SIZE} keys.
+ */
+@State(Scope.Thread)
+public class KeyCursor {
+    public static final int SAMPLE_SIZE = 1024;
+
+    private static final int MASK = SAMPLE_SIZE - 1;
+
+    static {
+        if (Integer.bitCount(SAMPLE_SIZE) != 1) {
+            throw new IllegalStateException("SAMPLE_SIZE must be a power of two, was " + SAMPLE_SIZE);
+        }
+    }
+
+    private int position;
+
+    public int next() {
+        position = (position + 1) & MASK;
+        return position;
+    }
+}
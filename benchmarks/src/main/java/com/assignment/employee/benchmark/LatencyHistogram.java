@@ -0,0 +1,42 @@
+package com.assignment.employee.benchmark;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with logarithmic buckets (about 2% resolution) from 1 microsecond
+ * to roughly 100 seconds, good enough for percentiles of a load test.
+ */
+class LatencyHistogram {
+    private static final double GROWTH = 1.02;
+    private static final int BUCKETS = (int) Math.ceil(Math.log(100_000_000) / Math.log(GROWTH)) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder total = new LongAdder();
+
+    void record(long nanos) {
+        long micros = Math.max(1, nanos / 1000);
+        int bucket = Math.min(BUCKETS - 1, (int) (Math.log(micros) / Math.log(GROWTH)));
+        counts.incrementAndGet(bucket);
+        total.increment();
+    }
+
+    long count() {
+        return total.sum();
+    }
+
+    /**
+     * Upper bound of the bucket holding the given percentile, in milliseconds.
+     */
+    double percentileMillis(double percentile) {
+        long target = (long) Math.ceil(count() * percentile);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= target && seen > 0) {
+                return Math.pow(GROWTH, i + 1) / 1000.0;
+            }
+        }
+        return 0.0;
+    }
+}
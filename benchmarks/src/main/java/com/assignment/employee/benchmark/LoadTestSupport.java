@@ -0,0 +1,59 @@
+package com.assignment.employee.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Argument parsing and result output shared by the HTTP load tests.
+ */
+final class LoadTestSupport {
+    private LoadTestSupport() {
+    }
+
+    /**
+     * Parses {@code key=value} arguments.
+     */
+    static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator > 0) {
+                options.put(arg.substring(0, separator), arg.substring(separator + 1));
+            }
+        }
+        return options;
+    }
+
+    static List<Integer> connections(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .map(Integer::valueOf)
+                .toList();
+    }
+
+    /**
+     * Accepts {@code 250ms} or {@code 20s}.
+     */
+    static Duration duration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        return Duration.ofSeconds(Long.parseLong(value.endsWith("s") ? value.substring(0, value.length() - 1) : value));
+    }
+
+    /**
+     * Writes one JSON object per report as a JSON array.
+     */
+    static void write(Path result, List<String> reports) throws IOException {
+        if (result.getParent() != null) {
+            Files.createDirectories(result.getParent());
+        }
+        Files.writeString(result, "[\n  " + String.join(",\n  ", reports) + "\n]\n");
+    }
+}
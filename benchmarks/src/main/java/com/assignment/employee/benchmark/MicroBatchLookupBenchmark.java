@@ -0,0 +1,60 @@
+package com.assignment.employee.benchmark;
+
+import com.assignment.employee.dto.EmployeeResponse;
+import com.assignment.employee.service.EmployeeService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Many threads looking up distinct emails through {@code getEmployeeByEmailUsingHQL}, with one
+ * query per request versus micro-batched IN queries, against a deliberately small connection
+ * pool. Compare throughput and the p0.99 of the SampleTime mode.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(64)
+@State(Scope.Benchmark)
+public class MicroBatchLookupBenchmark {
+    private static final int ROWS = 100_000;
+
+    @Param({"false", "true"})
+    private boolean microbatch;
+
+    @Param({"1ms"})
+    private String window;
+
+    @Param({"64"})
+    private int maxSize;
+
+    private SeededEmployeeDatabase database;
+    private EmployeeService employeeService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new SeededEmployeeDatabase(ROWS, Map.of(
+                "employee.microbatch.enabled", microbatch,
+                "employee.microbatch.window", window,
+                "employee.microbatch.max-size", maxSize,
+                // isolate batching of distinct keys from coalescing of identical ones
+                "employee.coalescing.enabled", false,
+                "spring.datasource.hikari.maximum-pool-size", 8));
+        employeeService = database.getBean(EmployeeService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public EmployeeResponse getByEmail() {
+        int row = 1 + ThreadLocalRandom.current().nextInt(ROWS);
+        return employeeService.getEmployeeByEmailUsingHQL(SeededEmployeeDatabase.emailOf(row));
+    }
+}
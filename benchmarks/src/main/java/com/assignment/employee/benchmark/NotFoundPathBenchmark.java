@@ -0,0 +1,82 @@
+package com.assignment.employee.benchmark;
+
+import com.assignment.employee.dto.ErrorResponse;
+import com.assignment.employee.service.EmployeeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A workload where every lookup misses. The email filter answers each miss without a query,
+ * so what is left is the not-found path itself: the exception, the handler and the error body.
+ * {@code serviceMiss} covers that in-process (service call, exception, JSON encoding of the
+ * error body), {@code httpMiss} adds Tomcat and Spring MVC around it.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NotFoundPathBenchmark {
+    private static final int ROWS = 1_000;
+    private static final int MISSES = KeyCursor.SAMPLE_SIZE;
+
+    private SeededEmployeeDatabase database;
+    private EmployeeService employeeService;
+    private ObjectMapper objectMapper;
+    private HttpClient client;
+    private String[] emails;
+    private HttpRequest[] requests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new SeededEmployeeDatabase(ROWS, Map.of(
+                "server.port", 0,
+                // the seeded rows are unknown to the filter, which does not matter when every lookup misses
+                "employee.bloom.enabled", true), WebApplicationType.SERVLET);
+        employeeService = database.getBean(EmployeeService.class);
+        objectMapper = database.getBean(ObjectMapper.class);
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        emails = new String[MISSES];
+        requests = new HttpRequest[MISSES];
+        String base = "http://localhost:" + database.getLocalPort() + "/api/employees/email/";
+        for (int i = 0; i < MISSES; i++) {
+            emails[i] = "missing" + i + "@bench.example.com";
+            requests[i] = HttpRequest.newBuilder(URI.create(base + emails[i] + "/hql")).build();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public byte[] serviceMiss(KeyCursor cursor) throws Exception {
+        try {
+            employeeService.getEmployeeByEmailUsingHQL(emails[cursor.next()]);
+        } catch (RuntimeException e) {
+            // what GlobalExceptionHandler answers for a miss
+            return objectMapper.writeValueAsBytes(new ErrorResponse(404, "Not Found", e.getMessage()));
+        }
+        throw new IllegalStateException("Expected a miss");
+    }
+
+    @Benchmark
+    public int httpMiss(KeyCursor cursor) throws Exception {
+        HttpResponse<byte[]> response = client.send(requests[cursor.next()], HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 404) {
+            throw new IllegalStateException("Expected 404, got " + response.statusCode());
+        }
+        return response.body().length;
+    }
+}
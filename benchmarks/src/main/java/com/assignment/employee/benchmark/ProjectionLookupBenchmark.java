@@ -0,0 +1,74 @@
+package com.assignment.employee.benchmark;
+
+import com.assignment.employee.dto.EmployeeResponse;
+import com.assignment.employee.entity.Employee;
+import com.assignment.employee.repository.EmployeeRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Email lookup as a managed entity in a read-write transaction (the old path) versus a
+ * constructor projection in a read-only transaction (the current path). Run with the GC
+ * profiler to compare allocation per lookup.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjectionLookupBenchmark {
+    private static final int SAMPLE_SIZE = KeyCursor.SAMPLE_SIZE;
+
+    @Param({"1000", "100000"})
+    private int rows;
+
+    @Param({"hql", "native"})
+    private String strategy;
+
+    private SeededEmployeeDatabase database;
+    private EmployeeRepository employeeRepository;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+    private String[] emails;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new SeededEmployeeDatabase(rows);
+        employeeRepository = database.getBean(EmployeeRepository.class);
+
+        PlatformTransactionManager transactionManager = database.getBean(PlatformTransactionManager.class);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        List<Integer> sample = database.sampleRows(SAMPLE_SIZE);
+        emails = sample.stream().map(SeededEmployeeDatabase::emailOf).toArray(String[]::new);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public Optional<Employee> entityReadWrite(KeyCursor cursor) {
+        String email = emails[cursor.next()];
+        return readWrite.execute(status -> "hql".equals(strategy)
+                ? employeeRepository.findByEmailUsingHQL(email)
+                : employeeRepository.findByEmailUsingNativeSQL(email));
+    }
+
+    @Benchmark
+    public Optional<EmployeeResponse> projectionReadOnly(KeyCursor cursor) {
+        String email = emails[cursor.next()];
+        return readOnly.execute(status -> "hql".equals(strategy)
+                ? employeeRepository.findResponseByEmailUsingHQL(email)
+                : employeeRepository.findResponseByEmailUsingNativeSQL(email));
+    }
+}
@@ -0,0 +1,101 @@
+package com.assignment.employee.benchmark;
+
+import com.assignment.employee.EmployeeApiApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Boots the application (without a web server unless asked for one) against a private in-memory
+ * H2 database and seeds the employees table with a fixed number of predictable rows.
+ * Row {@code i} (1-based) has name {@code "Employee i"} and email {@code "employee<i>@bench.example.com"}.
+ */
+public class SeededEmployeeDatabase implements AutoCloseable {
+    private static final String SEED_SQL =
+            "INSERT INTO employees (id, name, last_name, email, phone, address, version, updated_at) " +
+            "SELECT X, 'Employee ' || X, 'Last' || MOD(X, 1000), 'employee' || X || '@bench.example.com', " +
+            "'9' || LPAD(CAST(X AS VARCHAR), 9, '0'), 'Street ' || MOD(X, 500), 0, CURRENT_TIMESTAMP " +
+            "FROM SYSTEM_RANGE(1, ?)";
+
+    private final ConfigurableApplicationContext context;
+    private final int rows;
+
+    public SeededEmployeeDatabase(int rows) {
+        this(rows, Map.of());
+    }
+
+    public SeededEmployeeDatabase(int rows, Map<String, Object> extraProperties) {
+        this(rows, extraProperties, WebApplicationType.NONE);
+    }
+
+    public SeededEmployeeDatabase(int rows, Map<String, Object> extraProperties, WebApplicationType webApplicationType) {
+        this.rows = rows;
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.datasource.url", "jdbc:h2:mem:bench" + rows + ";DB_CLOSE_DELAY=-1");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("spring.h2.console.enabled", "false");
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("logging.level.root", "WARN");
+        // measure the lookup strategies themselves unless a benchmark opts back in
+        properties.put("employee.cache.enabled", "false");
+        // rows are seeded with plain SQL after startup, so the email filter would not know them
+        properties.put("employee.bloom.enabled", "false");
+        properties.putAll(extraProperties);
+
+        // passed as command-line arguments so they take precedence over application.properties
+        String[] args = properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+        this.context = new SpringApplicationBuilder(EmployeeApiApplication.class)
+                .web(webApplicationType)
+                .run(args);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update(SEED_SQL, rows);
+        // keep Hibernate's pooled id ranges clear of the seeded ids
+        jdbcTemplate.execute("ALTER SEQUENCE employees_seq RESTART WITH " + (rows + 100));
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public int getLocalPort() {
+        return Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public static String emailOf(int row) {
+        return "employee" + row + "@bench.example.com";
+    }
+
+    public static String nameOf(int row) {
+        return "Employee " + row;
+    }
+
+    /**
+     * Spreads {@code count} keys evenly over the seeded rows so that lookups touch
+     * the whole table rather than a single hot row.
+     */
+    public List<Integer> sampleRows(int count) {
+        List<Integer> sample = new ArrayList<>(count);
+        long step = Math.max(1, rows / count);
+        for (int i = 0; i < count; i++) {
+            sample.add((int) (1 + (i * step) % rows));
+        }
+        return sample;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
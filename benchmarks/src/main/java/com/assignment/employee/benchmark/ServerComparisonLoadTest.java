@@ -0,0 +1,198 @@
+package com.assignment.employee.benchmark;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Compares the servlet application with the reactive module under the same closed-loop load on
+ * {@code GET /api/employees/email/{email}/hql}. Each server runs in its own JVM with the same heap
+ * limit so that its CPU time and resident memory can be read from the process: the report gives
+ * requests per CPU-second (what one fully busy core sustains) and the growth of resident memory
+ * per open connection over the idle baseline.
+ * <p>
+ * Usage: {@code ServerComparisonLoadTest connections=100,1000 duration=20s warmup=5s heap=512m
+ * servlet-jar=../target/employee-assign-01-1.0.0-exec.jar
+ * reactive-jar=../reactive/target/employee-assign-01-reactive-1.0.0.jar result=target/load-servers.json}.
+ * Resident memory is read from {@code /proc}, so memory figures are only reported on Linux.
+ */
+public class ServerComparisonLoadTest {
+    private static final int ROWS = 1_000;
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = LoadTestSupport.parse(args);
+        List<Integer> connections = LoadTestSupport.connections(options.getOrDefault("connections", "100,1000"));
+        Duration duration = LoadTestSupport.duration(options.getOrDefault("duration", "20s"));
+        Duration warmup = LoadTestSupport.duration(options.getOrDefault("warmup", "5s"));
+        String heap = options.getOrDefault("heap", "512m");
+        Map<String, Path> servers = new LinkedHashMap<>();
+        servers.put("servlet", Path.of(options.getOrDefault("servlet-jar", "../target/employee-assign-01-1.0.0-exec.jar")));
+        servers.put("reactive", Path.of(options.getOrDefault("reactive-jar", "../reactive/target/employee-assign-01-reactive-1.0.0.jar")));
+        Path result = Path.of(options.getOrDefault("result", "target/load-servers.json"));
+
+        List<String> reports = new ArrayList<>();
+        for (Map.Entry<String, Path> server : servers.entrySet()) {
+            if (!Files.isRegularFile(server.getValue())) {
+                throw new IllegalStateException("Build " + server.getValue() + " first (mvn package)");
+            }
+            int port = freePort();
+            Process process = start(server.getValue(), heap, port, Path.of("target", server.getKey() + ".log"));
+            try {
+                String base = "http://localhost:" + port + "/api/employees";
+                awaitStartup(base);
+                seed(base);
+                Supplier<URI> uris = () -> URI.create(
+                        base + "/email/" + emailOf(1 + ThreadLocalRandom.current().nextInt(ROWS)) + "/hql");
+                ClosedLoopLoad.run(uris, connections.get(0), warmup, null);
+                long baselineKb = residentKb(process.pid());
+
+                for (int count : connections) {
+                    ClosedLoopLoad.run(uris, count, warmup, null);
+                    Duration cpuBefore = cpu(process);
+                    LatencyHistogram histogram = new LatencyHistogram();
+                    ClosedLoopLoad run;
+                    try (ResidentPeak peak = new ResidentPeak(process.pid())) {
+                        run = ClosedLoopLoad.run(uris, count, duration, histogram);
+                        double cpuSeconds = (cpu(process).toNanos() - cpuBefore.toNanos()) / 1e9;
+                        String report = String.format(Locale.ROOT,
+                                "{\"server\":\"%s\",\"connections\":%d,\"requests\":%d,\"errors\":%d,"
+                                        + "\"throughputPerSecond\":%.1f,\"requestsPerCpuSecond\":%.1f,"
+                                        + "\"p50Millis\":%.2f,\"p99Millis\":%.2f,"
+                                        + "\"residentBaselineKb\":%d,\"residentPeakKb\":%d,\"residentKbPerConnection\":%.1f}",
+                                server.getKey(), count, histogram.count(), run.errors(),
+                                histogram.count() / (duration.toNanos() / 1e9),
+                                cpuSeconds > 0 ? histogram.count() / cpuSeconds : 0.0,
+                                histogram.percentileMillis(0.50), histogram.percentileMillis(0.99),
+                                baselineKb, peak.kb(), baselineKb < 0 ? -1.0 : (double) (peak.kb() - baselineKb) / count);
+                        System.out.println(report);
+                        reports.add(report);
+                    }
+                }
+            } finally {
+                process.destroy();
+                process.waitFor(30, TimeUnit.SECONDS);
+            }
+        }
+        LoadTestSupport.write(result, reports);
+    }
+
+    private static Process start(Path jar, String heap, int port, Path log) throws IOException {
+        String java = ProcessHandle.current().info().command().orElse("java");
+        Files.createDirectories(log.getParent());
+        return new ProcessBuilder(java, "-Xms" + heap, "-Xmx" + heap, "-jar", jar.toString(),
+                "--server.port=" + port,
+                "--logging.level.root=WARN",
+                "--spring.jpa.show-sql=false",
+                // compare the request paths themselves: no result cache or coalescing in either
+                "--employee.cache.enabled=false",
+                "--employee.coalescing.enabled=false",
+                "--server.tomcat.max-connections=20000",
+                "--server.tomcat.accept-count=20000")
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+    }
+
+    private static void awaitStartup(String base) throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest probe = HttpRequest.newBuilder(URI.create(base + "/email/" + emailOf(0) + "/hql")).build();
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(2);
+        while (System.nanoTime() < deadline) {
+            try {
+                client.send(probe, HttpResponse.BodyHandlers.discarding());
+                return;
+            } catch (ConnectException e) {
+                TimeUnit.MILLISECONDS.sleep(200);
+            }
+        }
+        throw new IllegalStateException("Server at " + base + " did not start");
+    }
+
+    private static void seed(String base) throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        for (int row = 1; row <= ROWS; row++) {
+            String body = "{\"name\":\"Employee " + row + "\",\"email\":\"" + emailOf(row) + "\",\"phone\":\"9" + row + "\"}";
+            HttpResponse<Void> response = client.send(HttpRequest.newBuilder(URI.create(base))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build(), HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() != 201) {
+                throw new IllegalStateException("Seeding failed with status " + response.statusCode());
+            }
+        }
+    }
+
+    private static String emailOf(int row) {
+        return SeededEmployeeDatabase.emailOf(row);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static Duration cpu(Process process) {
+        return process.info().totalCpuDuration().orElse(Duration.ZERO);
+    }
+
+    /**
+     * VmRSS of the process in kB, or -1 where /proc is not available.
+     */
+    private static long residentKb(long pid) {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc", Long.toString(pid), "status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D", ""));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // not Linux, or the process is gone
+        }
+        return -1;
+    }
+
+    /**
+     * Samples the resident size every 100 ms while open and keeps the maximum.
+     */
+    private static final class ResidentPeak implements AutoCloseable {
+        private final AtomicLong peak = new AtomicLong(-1);
+        private final Thread sampler;
+
+        private ResidentPeak(long pid) {
+            sampler = new Thread(() -> {
+                while (!Thread.currentThread().isInterrupted()) {
+                    peak.accumulateAndGet(residentKb(pid), Math::max);
+                    try {
+                        TimeUnit.MILLISECONDS.sleep(100);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }, "resident-peak");
+            sampler.setDaemon(true);
+            sampler.start();
+        }
+
+        private long kb() {
+            return peak.get();
+        }
+
+        @Override
+        public void close() {
+            sampler.interrupt();
+        }
+    }
+}
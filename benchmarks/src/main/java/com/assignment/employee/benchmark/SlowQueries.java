@@ -0,0 +1,23 @@
+package com.assignment.employee.benchmark;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Adds a fixed delay to every SELECT Hibernate prepares, standing in for a slow or stalled
+ * database. Registered with {@code hibernate.session_factory.statement_inspector}.
+ */
+public class SlowQueries implements StatementInspector {
+    static volatile long delayMillis;
+
+    @Override
+    public String inspect(String sql) {
+        if (delayMillis > 0 && sql.startsWith("select")) {
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,84 @@
+package com.assignment.employee.benchmark;
+
+import com.assignment.employee.dto.EmployeeResponse;
+import com.assignment.employee.entity.Employee;
+import com.assignment.employee.repository.EmployeeRepository;
+import com.assignment.employee.repository.EmployeeSpecifications;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the specification projection lookup when the query is compiled once per
+ * shape into JPQL ({@code compiled}), when a new criteria query is built and translated on every call
+ * ({@code uncompiled}, an equivalent lambda specification), and of the HQL projection for
+ * reference. Each lookup runs in its own read-only transaction, as in the service.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpecificationQueryBenchmark {
+    private static final int ROWS = 1_000;
+    private static final int SAMPLE_SIZE = KeyCursor.SAMPLE_SIZE;
+
+    @Param({"compiled", "uncompiled", "hql"})
+    private String query;
+
+    @Param({"email", "composite"})
+    private String shape;
+
+    private SeededEmployeeDatabase database;
+    private EmployeeRepository employeeRepository;
+    private TransactionTemplate transaction;
+    private String[] emails;
+    private String[] names;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new SeededEmployeeDatabase(ROWS);
+        employeeRepository = database.getBean(EmployeeRepository.class);
+        transaction = new TransactionTemplate(database.getBean(PlatformTransactionManager.class));
+        transaction.setReadOnly(true);
+
+        List<Integer> sample = database.sampleRows(SAMPLE_SIZE);
+        emails = sample.stream().map(SeededEmployeeDatabase::emailOf).toArray(String[]::new);
+        names = sample.stream().map(SeededEmployeeDatabase::nameOf).toArray(String[]::new);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public Optional<EmployeeResponse> findResponse(KeyCursor cursor) {
+        int row = cursor.next();
+        String email = emails[row];
+        String name = names[row];
+        return transaction.execute(status -> switch (query) {
+            case "compiled" -> employeeRepository.findResponse(shape.equals("email")
+                    ? EmployeeSpecifications.hasEmail(email)
+                    : EmployeeSpecifications.allOf(EmployeeSpecifications.hasEmail(email), EmployeeSpecifications.hasName(name)));
+            case "uncompiled" -> employeeRepository.findResponse(shape.equals("email")
+                    ? inline(email, null)
+                    : inline(email, name));
+            default -> shape.equals("email")
+                    ? employeeRepository.findResponseByEmailUsingHQL(email)
+                    : employeeRepository.findResponseByEmailUsingHQL(email).filter(response -> response.getName().equals(name));
+        });
+    }
+
+    private static Specification<Employee> inline(String email, String name) {
+        return (root, criteriaQuery, criteriaBuilder) -> name == null
+                ? criteriaBuilder.equal(root.get("email"), email)
+                : criteriaBuilder.and(criteriaBuilder.equal(root.get("email"), email), criteriaBuilder.equal(root.get("name"), name));
+    }
+}
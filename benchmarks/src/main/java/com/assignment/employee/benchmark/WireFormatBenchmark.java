@@ -0,0 +1,75 @@
+package com.assignment.employee.benchmark;
+
+import com.assignment.employee.dto.EmployeeResponse;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode cost of the negotiable wire formats for one {@link EmployeeResponse} and for
+ * a list of them, using mappers configured like the application's converters. The encoded size
+ * of each payload is printed once per trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WireFormatBenchmark {
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"1", "1000"})
+    private int employees;
+
+    private ObjectMapper mapper;
+    private Object payload;
+    private JavaType payloadType;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        mapper = switch (format) {
+            case "cbor" -> builder.factory(new CBORFactory()).build();
+            case "smile" -> builder.factory(new SmileFactory()).build();
+            default -> builder.build();
+        };
+
+        Instant updatedAt = Instant.parse("2024-01-01T10:00:00Z");
+        List<EmployeeResponse> list = new ArrayList<>(employees);
+        for (int row = 1; row <= employees; row++) {
+            list.add(new EmployeeResponse((long) row, SeededEmployeeDatabase.nameOf(row), "Last" + row % 1000,
+                    SeededEmployeeDatabase.emailOf(row), "9" + String.format("%09d", row), "Street " + row % 500,
+                    0L, updatedAt));
+        }
+        if (employees == 1) {
+            payload = list.get(0);
+            payloadType = mapper.constructType(EmployeeResponse.class);
+        } else {
+            payload = list;
+            payloadType = mapper.getTypeFactory().constructCollectionType(List.class, EmployeeResponse.class);
+        }
+        encoded = mapper.writeValueAsBytes(payload);
+        System.out.printf("%n%s, %d employee(s): %d bytes%n", format, employees, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws Exception {
+        return mapper.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public Object decode() throws Exception {
+        return mapper.readValue(encoded, payloadType);
+    }
+}
@@ -0,0 +1,82 @@
+package com.assignment.employee.benchmark;
+
+import com.assignment.employee.dto.UpdatePhoneRequest;
+import com.assignment.employee.exception.VersionConflictException;
+import com.assignment.employee.service.EmployeeService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parallel phone updates against a small set of hot rows. {@code conditional} writers read the
+ * version and send it as If-Match, re-reading and retrying on a conflict; {@code blind} writers
+ * overwrite whatever is there. The {@code retries} counter divided by {@code writes} is the
+ * retry rate under each level of contention.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class WriteContentionBenchmark {
+    private static final int ROWS = 1000;
+
+    @Param({"1", "8", "64"})
+    private int hotRows;
+
+    @Param({"conditional", "blind"})
+    private String mode;
+
+    private SeededEmployeeDatabase database;
+    private EmployeeService employeeService;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Outcomes {
+        public long writes;
+        public long retries;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            writes = 0;
+            retries = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new SeededEmployeeDatabase(ROWS);
+        employeeService = database.getBean(EmployeeService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public void updatePhone(Outcomes outcomes) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String email = SeededEmployeeDatabase.emailOf(1 + random.nextInt(hotRows));
+        UpdatePhoneRequest request = new UpdatePhoneRequest(String.valueOf(9_000_000_000L + random.nextInt(1_000_000_000)));
+
+        if ("blind".equals(mode)) {
+            employeeService.updateEmployeePhone(email, request, null);
+            outcomes.writes++;
+            return;
+        }
+        while (true) {
+            Long version = employeeService.getEmployeeByEmailUsingHQL(email).getVersion();
+            try {
+                employeeService.updateEmployeePhone(email, request, version);
+                outcomes.writes++;
+                return;
+            } catch (VersionConflictException e) {
+                outcomes.retries++;
+            }
+        }
+    }
+}
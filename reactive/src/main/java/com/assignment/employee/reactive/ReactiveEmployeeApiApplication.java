@@ -0,0 +1,14 @@
+package com.assignment.employee.reactive;
+
+import com.assignment.employee.exception.GlobalExceptionHandler;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+
+@SpringBootApplication
+@Import(GlobalExceptionHandler.class)
+public class ReactiveEmployeeApiApplication {
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveEmployeeApiApplication.class, args);
+    }
+}
@@ -0,0 +1,84 @@
+package com.assignment.employee.reactive.controller;
+
+import com.assignment.employee.controller.EmployeeETag;
+import com.assignment.employee.dto.*;
+import com.assignment.employee.reactive.service.ReactiveEmployeeService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * The single-employee endpoints of {@code EmployeeController} on WebFlux. The lookup strategies
+ * of the servlet variant all resolve to the same R2DBC query here, so their paths are aliases.
+ */
+@RestController
+@RequestMapping("/api/employees")
+public class ReactiveEmployeeController {
+    @Autowired
+    private ReactiveEmployeeService employeeService;
+
+    @GetMapping({"/email/{email}/specifications", "/email/{email}/hql", "/email/{email}/native", "/email/{email}/naturalid"})
+    public Mono<ResponseEntity<EmployeeResponse>> getEmployeeByEmail(@PathVariable String email,
+                                                                     @RequestHeader HttpHeaders headers) {
+        return employeeService.getEmployeeByEmail(email).map(response -> conditionalGet(headers, response));
+    }
+
+    @GetMapping({"/name/{name}/specifications", "/name/{name}/hql", "/name/{name}/native"})
+    public Mono<ResponseEntity<EmployeeResponse>> getEmployeeByName(@PathVariable String name,
+                                                                    @RequestHeader HttpHeaders headers) {
+        return employeeService.getEmployeeByName(name).map(response -> conditionalGet(headers, response));
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<EmployeeResponse>> createEmployee(@Valid @RequestBody CreateEmployeeRequest request) {
+        return employeeService.createEmployee(request)
+                .map(response -> ResponseEntity.status(HttpStatus.CREATED).headers(validators(response)).body(response));
+    }
+
+    @PutMapping("/{email}")
+    public Mono<ResponseEntity<EmployeeResponse>> updateEmployee(@PathVariable String email,
+                                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                                 @RequestBody UpdateEmployeeRequest request) {
+        return employeeService.updateEmployee(email, request, EmployeeETag.parseIfMatch(ifMatch))
+                .map(ReactiveEmployeeController::ok);
+    }
+
+    @PatchMapping("/{email}/phone")
+    public Mono<ResponseEntity<EmployeeResponse>> updateEmployeePhone(@PathVariable String email,
+                                                                      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                                      @Valid @RequestBody UpdatePhoneRequest request) {
+        return employeeService.updateEmployeePhone(email, request, EmployeeETag.parseIfMatch(ifMatch))
+                .map(ReactiveEmployeeController::ok);
+    }
+
+    @DeleteMapping("/{email}")
+    public Mono<ResponseEntity<Void>> deleteEmployeeByEmail(@PathVariable String email,
+                                                            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return employeeService.deleteEmployeeByEmail(email, EmployeeETag.parseIfMatch(ifMatch))
+                .then(Mono.fromSupplier(() -> ResponseEntity.noContent().build()));
+    }
+
+    /**
+     * The row is one indexed read either way, so the preconditions are evaluated against the
+     * loaded response rather than a separate version query.
+     */
+    private static ResponseEntity<EmployeeResponse> conditionalGet(HttpHeaders headers, EmployeeResponse response) {
+        if (EmployeeETag.isConditional(headers)
+                && EmployeeETag.notModified(headers, new EmployeeVersion(response.getVersion(), response.getUpdatedAt()))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(validators(response)).build();
+        }
+        return ok(response);
+    }
+
+    private static ResponseEntity<EmployeeResponse> ok(EmployeeResponse response) {
+        return ResponseEntity.ok().headers(validators(response)).body(response);
+    }
+
+    private static HttpHeaders validators(EmployeeResponse response) {
+        return EmployeeETag.validators(response.getVersion(), response.getUpdatedAt());
+    }
+}
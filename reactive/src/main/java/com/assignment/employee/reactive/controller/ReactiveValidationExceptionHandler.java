@@ -0,0 +1,81 @@
+package com.assignment.employee.reactive.controller;
+
+import com.assignment.employee.dto.ErrorResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.NotAcceptableStatusException;
+import org.springframework.web.server.ServerWebInputException;
+import org.springframework.web.server.UnsupportedMediaTypeStatusException;
+
+import java.util.stream.Collectors;
+
+/**
+ * WebFlux reports {@code @Valid} failures as {@link WebExchangeBindException} rather than
+ * {@code MethodArgumentNotValidException}, and unreadable input as {@link ServerWebInputException}
+ * rather than {@code HttpMessageNotReadableException}, and negotiation failures as
+ * {@link NotAcceptableStatusException} and {@link UnsupportedMediaTypeStatusException}; answer
+ * them exactly as the servlet API does, ahead of {@code GlobalExceptionHandler}'s catch-all for
+ * server errors.
+ */
+@RestControllerAdvice
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ReactiveValidationExceptionHandler {
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleValidationException(WebExchangeBindException ex) {
+        var errors = ex.getBindingResult()
+                .getFieldErrors()
+                .stream()
+                .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                .collect(Collectors.toList());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                "Validation Failed",
+                "Invalid input parameters",
+                errors
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleUnreadableRequest(ServerWebInputException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                "Malformed request body"
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    @ExceptionHandler(NotAcceptableStatusException.class)
+    public ResponseEntity<ErrorResponse> handleNotAcceptable(NotAcceptableStatusException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.NOT_ACCEPTABLE.value(),
+                "Not Acceptable",
+                "Acceptable representations: " + MediaType.toString(ex.getSupportedMediaTypes())
+        );
+        return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).contentType(MediaType.APPLICATION_JSON).body(errorResponse);
+    }
+
+    @ExceptionHandler(UnsupportedMediaTypeStatusException.class)
+    public ResponseEntity<ErrorResponse> handleUnsupportedMediaType(UnsupportedMediaTypeStatusException ex) {
+        MediaType contentType = ex.getContentType();
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.UNSUPPORTED_MEDIA_TYPE.value(),
+                "Unsupported Media Type",
+                contentType == null
+                        ? "Missing Content-Type"
+                        : "Content-Type " + contentType.getType() + "/" + contentType.getSubtype() + " is not supported"
+        );
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(ex.getSupportedMediaTypes());
+        return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).headers(headers).body(errorResponse);
+    }
+}
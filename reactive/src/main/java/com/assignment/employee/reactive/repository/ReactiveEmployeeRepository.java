@@ -0,0 +1,112 @@
+package com.assignment.employee.reactive.repository;
+
+import com.assignment.employee.dto.EmployeeResponse;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The employees table through R2DBC. Reads map rows straight to {@link EmployeeResponse}, and
+ * writes are single statements whose affected-row count tells the service whether they matched,
+ * as in the servlet variant's repository.
+ */
+@Repository
+public class ReactiveEmployeeRepository {
+    private static final String SELECT_RESPONSE =
+            "SELECT id, name, last_name, email, phone, address, version, updated_at FROM employees ";
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    public Mono<EmployeeResponse> findResponseByEmail(String email) {
+        return databaseClient.sql(SELECT_RESPONSE + "WHERE email = :email")
+                .bind("email", email)
+                .map(ReactiveEmployeeRepository::toResponse)
+                .one();
+    }
+
+    public Mono<EmployeeResponse> findResponseByName(String name) {
+        return databaseClient.sql(SELECT_RESPONSE + "WHERE name = :name")
+                .bind("name", name)
+                .map(ReactiveEmployeeRepository::toResponse)
+                .one();
+    }
+
+    public Mono<Boolean> existsByEmail(String email) {
+        return databaseClient.sql("SELECT 1 FROM employees WHERE email = :email")
+                .bind("email", email)
+                .map(row -> Boolean.TRUE)
+                .first()
+                .defaultIfEmpty(Boolean.FALSE);
+    }
+
+    public Mono<Long> insert(String name, String email, String phone) {
+        DatabaseClient.GenericExecuteSpec insert = databaseClient.sql(
+                        "INSERT INTO employees (id, name, email, phone, version, updated_at) " +
+                        "VALUES (NEXT VALUE FOR employees_seq, :name, :email, :phone, 0, CURRENT_TIMESTAMP)")
+                .bind("name", name)
+                .bind("email", email);
+        insert = phone == null ? insert.bindNull("phone", String.class) : insert.bind("phone", phone);
+        return insert.fetch().rowsUpdated();
+    }
+
+    /**
+     * Sets only the non-null fields, bumps the version and checks {@code version} when given.
+     */
+    public Mono<Long> updateByEmail(String email, String lastName, String phone, String address, Long version) {
+        Map<String, String> changes = new LinkedHashMap<>();
+        if (lastName != null) {
+            changes.put("last_name", lastName);
+        }
+        if (phone != null) {
+            changes.put("phone", phone);
+        }
+        if (address != null) {
+            changes.put("address", address);
+        }
+        StringBuilder sql = new StringBuilder("UPDATE employees SET ");
+        changes.keySet().forEach(column -> sql.append(column).append(" = :").append(column).append(", "));
+        sql.append("version = version + 1, updated_at = CURRENT_TIMESTAMP WHERE email = :email");
+        if (version != null) {
+            sql.append(" AND version = :version");
+        }
+
+        DatabaseClient.GenericExecuteSpec update = databaseClient.sql(sql.toString()).bind("email", email);
+        for (Map.Entry<String, String> change : changes.entrySet()) {
+            update = update.bind(change.getKey(), change.getValue());
+        }
+        if (version != null) {
+            update = update.bind("version", version);
+        }
+        return update.fetch().rowsUpdated();
+    }
+
+    public Mono<Long> deleteByEmail(String email, Long version) {
+        DatabaseClient.GenericExecuteSpec delete = databaseClient.sql(
+                        "DELETE FROM employees WHERE email = :email" + (version != null ? " AND version = :version" : ""))
+                .bind("email", email);
+        if (version != null) {
+            delete = delete.bind("version", version);
+        }
+        return delete.fetch().rowsUpdated();
+    }
+
+    private static EmployeeResponse toResponse(Readable row) {
+        OffsetDateTime updatedAt = row.get("updated_at", OffsetDateTime.class);
+        return new EmployeeResponse(
+                row.get("id", Long.class),
+                row.get("name", String.class),
+                row.get("last_name", String.class),
+                row.get("email", String.class),
+                row.get("phone", String.class),
+                row.get("address", String.class),
+                row.get("version", Long.class),
+                updatedAt == null ? null : updatedAt.toInstant());
+    }
+}
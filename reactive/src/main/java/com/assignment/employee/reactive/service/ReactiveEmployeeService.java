@@ -0,0 +1,83 @@
+package com.assignment.employee.reactive.service;
+
+import com.assignment.employee.dto.CreateEmployeeRequest;
+import com.assignment.employee.dto.EmployeeResponse;
+import com.assignment.employee.dto.UpdateEmployeeRequest;
+import com.assignment.employee.dto.UpdatePhoneRequest;
+import com.assignment.employee.exception.DuplicateEmailException;
+import com.assignment.employee.exception.EmployeeNotFoundException;
+import com.assignment.employee.exception.VersionConflictException;
+import com.assignment.employee.reactive.repository.ReactiveEmployeeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@code EmployeeService} for the single-employee endpoints, with the
+ * same error semantics: missing employees fail with "Employee not found ...", a create whose
+ * email is taken fails with {@link DuplicateEmailException} and a conditional write that lost a
+ * race fails with {@link VersionConflictException}.
+ */
+@Service
+public class ReactiveEmployeeService {
+    @Autowired
+    private ReactiveEmployeeRepository employeeRepository;
+
+    @Transactional
+    public Mono<EmployeeResponse> createEmployee(CreateEmployeeRequest request) {
+        return employeeRepository.insert(request.getName(), request.getEmail(), request.getPhone())
+                .onErrorMap(DuplicateKeyException.class, e -> new DuplicateEmailException(request.getEmail()))
+                .then(findResponse(request.getEmail()));
+    }
+
+    public Mono<EmployeeResponse> getEmployeeByEmail(String email) {
+        return findResponse(email);
+    }
+
+    public Mono<EmployeeResponse> getEmployeeByName(String name) {
+        return employeeRepository.findResponseByName(name)
+                .switchIfEmpty(Mono.error(() -> EmployeeNotFoundException.byName(name)));
+    }
+
+    @Transactional
+    public Mono<EmployeeResponse> updateEmployee(String email, UpdateEmployeeRequest request, Long expectedVersion) {
+        if (request.getLastName() == null && request.getPhone() == null && request.getAddress() == null) {
+            return findResponse(email).flatMap(current -> {
+                if (expectedVersion != null && !expectedVersion.equals(current.getVersion())) {
+                    return Mono.error(new VersionConflictException(email, expectedVersion));
+                }
+                return Mono.just(current);
+            });
+        }
+        return employeeRepository.updateByEmail(
+                        email, request.getLastName(), request.getPhone(), request.getAddress(), expectedVersion)
+                .flatMap(updated -> updated == 0 ? writeFailure(email, expectedVersion) : findResponse(email));
+    }
+
+    @Transactional
+    public Mono<EmployeeResponse> updateEmployeePhone(String email, UpdatePhoneRequest request, Long expectedVersion) {
+        return employeeRepository.updateByEmail(email, null, request.getPhone(), null, expectedVersion)
+                .flatMap(updated -> updated == 0 ? writeFailure(email, expectedVersion) : findResponse(email));
+    }
+
+    @Transactional
+    public Mono<Void> deleteEmployeeByEmail(String email, Long expectedVersion) {
+        return employeeRepository.deleteByEmail(email, expectedVersion)
+                .flatMap(deleted -> deleted == 0 ? writeFailure(email, expectedVersion) : Mono.empty())
+                .then();
+    }
+
+    private Mono<EmployeeResponse> findResponse(String email) {
+        return employeeRepository.findResponseByEmail(email)
+                .switchIfEmpty(Mono.error(() -> EmployeeNotFoundException.byEmail(email)));
+    }
+
+    private <T> Mono<T> writeFailure(String email, Long expectedVersion) {
+        Mono<Boolean> exists = expectedVersion == null ? Mono.just(false) : employeeRepository.existsByEmail(email);
+        return exists.flatMap(found -> Mono.error(found
+                ? new VersionConflictException(email, expectedVersion)
+                : EmployeeNotFoundException.byEmail(email)));
+    }
+}
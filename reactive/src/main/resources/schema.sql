@@ -0,0 +1,14 @@
+CREATE SEQUENCE IF NOT EXISTS employees_seq START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE IF NOT EXISTS employees (
+    id BIGINT NOT NULL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    last_name VARCHAR(255),
+    email VARCHAR(255) NOT NULL UNIQUE,
+    phone VARCHAR(255),
+    address VARCHAR(255),
+    version BIGINT NOT NULL,
+    updated_at TIMESTAMP(6) WITH TIME ZONE
+);
+
+CREATE INDEX IF NOT EXISTS idx_employees_last_name_id ON employees (last_name, id);
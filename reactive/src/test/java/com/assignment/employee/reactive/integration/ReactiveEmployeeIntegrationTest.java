@@ -0,0 +1,172 @@
+package com.assignment.employee.reactive.integration;
+
+import com.assignment.employee.dto.CreateEmployeeRequest;
+import com.assignment.employee.dto.EmployeeResponse;
+import com.assignment.employee.dto.UpdateEmployeeRequest;
+import com.assignment.employee.dto.UpdatePhoneRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+class ReactiveEmployeeIntegrationTest {
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient.sql("DELETE FROM employees").fetch().rowsUpdated().block();
+        webTestClient.post().uri("/api/employees")
+                .bodyValue(new CreateEmployeeRequest("Aarav Sharma", "aarav.sharma@example.com", "9876543210"))
+                .exchange()
+                .expectStatus().isCreated();
+    }
+
+    @Test
+    void testCreateEmployee() {
+        EmployeeResponse response = webTestClient.post().uri("/api/employees")
+                .bodyValue(new CreateEmployeeRequest("Neha Verma", "neha.verma@example.com", "9123456780"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().valueEquals("ETag", "\"0\"")
+                .expectBody(EmployeeResponse.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertNotNull(response.getId());
+        assertEquals("Neha Verma", response.getName());
+        assertEquals("9123456780", response.getPhone());
+        assertNotNull(response.getUpdatedAt());
+    }
+
+    @Test
+    void testCreateEmployeeValidationFailure() {
+        webTestClient.post().uri("/api/employees")
+                .bodyValue(new CreateEmployeeRequest("", "not-an-email"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Validation Failed")
+                .jsonPath("$.details.length()").isEqualTo(2);
+    }
+
+    @Test
+    void testCreateEmployeeWithDuplicateEmail() {
+        webTestClient.post().uri("/api/employees")
+                .bodyValue(new CreateEmployeeRequest("Aarav Again", "aarav.sharma@example.com"))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.CONFLICT)
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Conflict")
+                .jsonPath("$.message").isEqualTo("Employee already exists with email: aarav.sharma@example.com");
+    }
+
+    @Test
+    void testGetEmployeeByEmailAndName() {
+        webTestClient.get().uri("/api/employees/email/aarav.sharma@example.com/hql")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", "\"0\"")
+                .expectBody()
+                .jsonPath("$.name").isEqualTo("Aarav Sharma");
+
+        webTestClient.get().uri("/api/employees/name/Aarav Sharma/native")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.email").isEqualTo("aarav.sharma@example.com");
+    }
+
+    @Test
+    void testGetEmployeeNotFound() {
+        webTestClient.get().uri("/api/employees/email/nobody@example.com/hql")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Employee not found with email: nobody@example.com");
+    }
+
+    @Test
+    void testUnproducibleAcceptAndUnreadableBody() {
+        webTestClient.get().uri("/api/employees/email/aarav.sharma@example.com/hql")
+                .accept(MediaType.TEXT_PLAIN)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.NOT_ACCEPTABLE)
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(406);
+
+        webTestClient.post().uri("/api/employees")
+                .contentType(MediaType.APPLICATION_XML)
+                .bodyValue("<employee/>")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNSUPPORTED_MEDIA_TYPE)
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Content-Type application/xml is not supported");
+    }
+
+    @Test
+    void testConditionalGet() {
+        webTestClient.get().uri("/api/employees/email/aarav.sharma@example.com/hql")
+                .header("If-None-Match", "\"0\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals("ETag", "\"0\"");
+    }
+
+    @Test
+    void testConditionalPhoneUpdate() {
+        webTestClient.patch().uri("/api/employees/aarav.sharma@example.com/phone")
+                .header("If-Match", "\"0\"")
+                .bodyValue(new UpdatePhoneRequest("9000000001"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", "\"1\"")
+                .expectBody()
+                .jsonPath("$.phone").isEqualTo("9000000001");
+
+        webTestClient.patch().uri("/api/employees/aarav.sharma@example.com/phone")
+                .header("If-Match", "\"0\"")
+                .bodyValue(new UpdatePhoneRequest("9000000002"))
+                .exchange()
+                .expectStatus().isEqualTo(412);
+    }
+
+    @Test
+    void testUpdateEmployee() {
+        UpdateEmployeeRequest request = new UpdateEmployeeRequest();
+        request.setLastName("Sharma");
+        request.setAddress("DLF Phase 3, Gurugram");
+
+        webTestClient.put().uri("/api/employees/aarav.sharma@example.com")
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.lastName").isEqualTo("Sharma")
+                .jsonPath("$.address").isEqualTo("DLF Phase 3, Gurugram")
+                .jsonPath("$.phone").isEqualTo("9876543210");
+    }
+
+    @Test
+    void testDeleteEmployee() {
+        webTestClient.delete().uri("/api/employees/aarav.sharma@example.com")
+                .exchange()
+                .expectStatus().isNoContent();
+
+        webTestClient.delete().uri("/api/employees/aarav.sharma@example.com")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+}
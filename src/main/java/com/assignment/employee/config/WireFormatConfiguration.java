@@ -0,0 +1,28 @@
+package com.assignment.employee.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * CBOR ({@code application/cbor}) and Smile ({@code application/x-jackson-smile}) next to JSON,
+ * picked through Accept and Content-Type. They take the place of Spring MVC's default binary
+ * converters, which are built without the application's Jackson settings, so every format
+ * encodes the DTOs the same way as JSON does. JSON stays first and remains the default.
+ */
+@Configuration(proxyBeanMethods = false)
+public class WireFormatConfiguration {
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,70 @@
+package com.assignment.employee.controller;
+
+import com.assignment.employee.dto.BloomFilterStatsResponse;
+import com.assignment.employee.dto.CacheStatsResponse;
+import com.assignment.employee.dto.CoalescingStatsResponse;
+import com.assignment.employee.dto.RoutingStatsResponse;
+import com.assignment.employee.dto.WriteBehindStatsResponse;
+import com.assignment.employee.service.EmailBloomFilter;
+import com.assignment.employee.service.EmployeeCache;
+import com.assignment.employee.service.EmployeeJsonCache;
+import com.assignment.employee.service.EmployeeQueryRouter;
+import com.assignment.employee.service.PhoneWriteBehindBuffer;
+import com.assignment.employee.service.RequestCoalescer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/diagnostics")
+public class DiagnosticsController {
+    @Autowired
+    private EmployeeCache employeeCache;
+
+    @Autowired
+    private EmployeeJsonCache employeeJsonCache;
+
+    @Autowired
+    private EmailBloomFilter emailBloomFilter;
+
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
+    @Autowired
+    private PhoneWriteBehindBuffer phoneWriteBehindBuffer;
+
+    @Autowired
+    private EmployeeQueryRouter employeeQueryRouter;
+
+    @GetMapping("/cache")
+    public ResponseEntity<CacheStatsResponse> getCacheStats() {
+        return ResponseEntity.ok(employeeCache.stats());
+    }
+
+    @GetMapping("/json-cache")
+    public ResponseEntity<CacheStatsResponse> getJsonCacheStats() {
+        return ResponseEntity.ok(employeeJsonCache.stats());
+    }
+
+    @GetMapping("/bloom")
+    public ResponseEntity<BloomFilterStatsResponse> getBloomFilterStats() {
+        return ResponseEntity.ok(emailBloomFilter.stats());
+    }
+
+    @GetMapping("/coalescing")
+    public ResponseEntity<CoalescingStatsResponse> getCoalescingStats() {
+        return ResponseEntity.ok(requestCoalescer.stats());
+    }
+
+    @GetMapping("/write-behind")
+    public ResponseEntity<WriteBehindStatsResponse> getWriteBehindStats() {
+        return ResponseEntity.ok(phoneWriteBehindBuffer.stats());
+    }
+
+    @GetMapping("/routing")
+    public ResponseEntity<RoutingStatsResponse> getRoutingStats() {
+        return ResponseEntity.ok(employeeQueryRouter.stats());
+    }
+}
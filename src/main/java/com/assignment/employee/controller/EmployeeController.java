@@ -1,77 +1,287 @@
 package com.assignment.employee.controller;
 
 import com.assignment.employee.dto.*;
+import com.assignment.employee.service.EmployeeBatchService;
+import com.assignment.employee.service.EmployeeExportService;
+import com.assignment.employee.service.EmployeeImportService;
+import com.assignment.employee.service.EmployeeJsonCache;
+import com.assignment.employee.service.EmployeeLookupService;
 import com.assignment.employee.service.EmployeeService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/employees")
 public class EmployeeController {
+    /**
+     * The formats an employee is written in, in order of preference; see {@code WireFormatConfiguration}.
+     */
+    private static final List<MediaType> REPRESENTATIONS = List.of(MediaType.APPLICATION_JSON,
+            MediaType.APPLICATION_CBOR, new MediaType("application", "x-jackson-smile"));
+
     @Autowired
     private EmployeeService employeeService;
 
-    @GetMapping("/email/{email}/specifications")
-    public ResponseEntity<EmployeeResponse> getEmployeeByEmailUsingSpecifications(@PathVariable String email) {
-        EmployeeResponse response = employeeService.getEmployeeByEmailUsingSpecifications(email);
+    @Autowired
+    private EmployeeBatchService employeeBatchService;
+
+    @Autowired
+    private EmployeeImportService employeeImportService;
+
+    @Autowired
+    private EmployeeExportService employeeExportService;
+
+    @Autowired
+    private EmployeeLookupService employeeLookupService;
+
+    @Autowired
+    private EmployeeJsonCache employeeJsonCache;
+
+    @GetMapping
+    public ResponseEntity<EmployeePageResponse> listEmployees(@RequestParam(defaultValue = "id") String sort,
+                                                              @RequestParam(defaultValue = "50") int size,
+                                                              @RequestParam(required = false) String cursor) {
+        EmployeePageResponse response = employeeService.listEmployees(sort, size, cursor);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/email/{email}")
+    public ResponseEntity<?> getEmployeeByEmail(@PathVariable String email,
+                                                @RequestHeader HttpHeaders headers) throws HttpMediaTypeNotAcceptableException {
+        return getByEmail(email, headers, () -> employeeService.getEmployeeByEmail(email));
+    }
+
+    @GetMapping("/email/{email}/specifications")
+    public ResponseEntity<?> getEmployeeByEmailUsingSpecifications(@PathVariable String email,
+                                                                   @RequestHeader HttpHeaders headers) throws HttpMediaTypeNotAcceptableException {
+        return getByEmail(email, headers, () -> employeeService.getEmployeeByEmailUsingSpecifications(email));
+    }
+
     @GetMapping("/email/{email}/hql")
-    public ResponseEntity<EmployeeResponse> getEmployeeByEmailUsingHQL(@PathVariable String email) {
-        EmployeeResponse response = employeeService.getEmployeeByEmailUsingHQL(email);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<?> getEmployeeByEmailUsingHQL(@PathVariable String email,
+                                                        @RequestHeader HttpHeaders headers) throws HttpMediaTypeNotAcceptableException {
+        return getByEmail(email, headers, () -> employeeService.getEmployeeByEmailUsingHQL(email));
     }
 
     @GetMapping("/email/{email}/native")
-    public ResponseEntity<EmployeeResponse> getEmployeeByEmailUsingNativeSQL(@PathVariable String email) {
-        EmployeeResponse response = employeeService.getEmployeeByEmailUsingNativeSQL(email);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<?> getEmployeeByEmailUsingNativeSQL(@PathVariable String email,
+                                                              @RequestHeader HttpHeaders headers) throws HttpMediaTypeNotAcceptableException {
+        return getByEmail(email, headers, () -> employeeService.getEmployeeByEmailUsingNativeSQL(email));
+    }
+
+    @GetMapping("/email/{email}/naturalid")
+    public ResponseEntity<?> getEmployeeByEmailUsingNaturalId(@PathVariable String email,
+                                                              @RequestHeader HttpHeaders headers) throws HttpMediaTypeNotAcceptableException {
+        return getByEmail(email, headers, () -> employeeService.getEmployeeByEmailUsingNaturalId(email));
     }
 
     @GetMapping("/name/{name}/specifications")
-    public ResponseEntity<EmployeeResponse> getEmployeeByNameUsingSpecifications(@PathVariable String name) {
-        EmployeeResponse response = employeeService.getEmployeeByNameUsingSpecifications(name);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<EmployeeResponse> getEmployeeByNameUsingSpecifications(@PathVariable String name,
+                                                                                 @RequestHeader HttpHeaders headers) throws HttpMediaTypeNotAcceptableException {
+        return conditionalGet(headers, () -> employeeService.findVersionByName(name),
+                () -> employeeService.getEmployeeByNameUsingSpecifications(name));
     }
 
     @GetMapping("/name/{name}/hql")
-    public ResponseEntity<EmployeeResponse> getEmployeeByNameUsingHQL(@PathVariable String name) {
-        EmployeeResponse response = employeeService.getEmployeeByNameUsingHQL(name);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<EmployeeResponse> getEmployeeByNameUsingHQL(@PathVariable String name,
+                                                                      @RequestHeader HttpHeaders headers) throws HttpMediaTypeNotAcceptableException {
+        return conditionalGet(headers, () -> employeeService.findVersionByName(name),
+                () -> employeeService.getEmployeeByNameUsingHQL(name));
     }
 
     @GetMapping("/name/{name}/native")
-    public ResponseEntity<EmployeeResponse> getEmployeeByNameUsingNativeSQL(@PathVariable String name) {
-        EmployeeResponse response = employeeService.getEmployeeByNameUsingNativeSQL(name);
+    public ResponseEntity<EmployeeResponse> getEmployeeByNameUsingNativeSQL(@PathVariable String name,
+                                                                            @RequestHeader HttpHeaders headers) throws HttpMediaTypeNotAcceptableException {
+        return conditionalGet(headers, () -> employeeService.findVersionByName(name),
+                () -> employeeService.getEmployeeByNameUsingNativeSQL(name));
+    }
+
+    @PostMapping("/lookup")
+    public ResponseEntity<EmployeeLookupResponse> lookupEmployees(@RequestBody EmployeeLookupRequest request) {
+        EmployeeLookupResponse response = employeeLookupService.lookupEmployees(request);
         return ResponseEntity.ok(response);
     }
 
     @PostMapping
-    public ResponseEntity<EmployeeResponse> createEmployee(@Valid @RequestBody CreateEmployeeRequest request) {
+    public ResponseEntity<EmployeeResponse> createEmployee(@Valid @RequestBody CreateEmployeeRequest request,
+                                                           @RequestHeader HttpHeaders headers) throws HttpMediaTypeNotAcceptableException {
+        MediaType representation = representation(headers);
         EmployeeResponse response = employeeService.createEmployee(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .headers(validators(response, representation))
+                .contentType(representation)
+                .body(response);
     }
 
-    @PutMapping("/{email}")
-    public ResponseEntity<EmployeeResponse> updateEmployee(@PathVariable String email, @RequestBody UpdateEmployeeRequest request) {
-        EmployeeResponse response = employeeService.updateEmployee(email, request);
+    @PostMapping("/batch")
+    public ResponseEntity<BatchCreateResponse> createEmployees(@RequestBody List<CreateEmployeeRequest> requests) {
+        BatchCreateResponse response = employeeBatchService.createEmployees(requests);
         return ResponseEntity.ok(response);
     }
 
-    @PatchMapping("/{email}/phone")
-    public ResponseEntity<EmployeeResponse> updateEmployeePhone(@PathVariable String email, @Valid @RequestBody UpdatePhoneRequest request) {
-        EmployeeResponse response = employeeService.updateEmployeePhone(email, request);
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public ResponseEntity<ImportResponse> importEmployees(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                          @RequestParam(required = false) String importId,
+                                                          @RequestParam(required = false) Long resumeAfterLine,
+                                                          InputStream body) throws IOException {
+        ImportResponse response = employeeImportService.importEmployees(body, contentType, importId, resumeAfterLine);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportEmployees(@RequestParam(defaultValue = "ndjson") String format) {
+        EmployeeExportService.Format exportFormat = EmployeeExportService.Format.of(format);
+        StreamingResponseBody body = out -> employeeExportService.exportEmployees(out, exportFormat);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .body(body);
+    }
+
+    @PutMapping("/{email}")
+    public ResponseEntity<EmployeeResponse> updateEmployee(@PathVariable String email,
+                                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                           @RequestBody UpdateEmployeeRequest request,
+                                                           @RequestHeader HttpHeaders headers) throws HttpMediaTypeNotAcceptableException {
+        MediaType representation = representation(headers);
+        EmployeeResponse response = employeeService.updateEmployee(email, request, EmployeeETag.parseIfMatch(ifMatch));
+        return ok(response, representation);
+    }
+
+    @PatchMapping("/{email}/phone")
+    public ResponseEntity<EmployeeResponse> updateEmployeePhone(@PathVariable String email,
+                                                                @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                                @Valid @RequestBody UpdatePhoneRequest request,
+                                                                @RequestHeader HttpHeaders headers) throws HttpMediaTypeNotAcceptableException {
+        MediaType representation = representation(headers);
+        Long expectedVersion = EmployeeETag.parseIfMatch(ifMatch);
+        if (expectedVersion == null && employeeService.bufferPhoneUpdate(email, request)) {
+            return ResponseEntity.accepted().build();
+        }
+        EmployeeResponse response = employeeService.updateEmployeePhone(email, request, expectedVersion);
+        return ok(response, representation);
+    }
+
     @DeleteMapping("/{email}")
-    public ResponseEntity<Void> deleteEmployeeByEmail(@PathVariable String email) {
-        employeeService.deleteEmployeeByEmail(email);
+    public ResponseEntity<Void> deleteEmployeeByEmail(@PathVariable String email,
+                                                      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        employeeService.deleteEmployeeByEmail(email, EmployeeETag.parseIfMatch(ifMatch));
         return ResponseEntity.noContent().build();
     }
-}
 
+    /**
+     * With the JSON cache on and JSON negotiated, writes the employee's pre-encoded bytes as they
+     * are, so a cache hit skips both the mapping and the ObjectMapper. Otherwise the response
+     * goes through the message converters as usual.
+     */
+    private ResponseEntity<?> getByEmail(String email, HttpHeaders headers, Supplier<EmployeeResponse> lookup)
+            throws HttpMediaTypeNotAcceptableException {
+        Supplier<Optional<EmployeeVersion>> currentVersion = () -> employeeService.findVersionByEmail(email);
+        MediaType representation = representation(headers);
+        if (!employeeJsonCache.isEnabled() || !representation.equals(MediaType.APPLICATION_JSON)) {
+            return conditionalGet(headers, currentVersion, lookup);
+        }
+        ResponseEntity<byte[]> notModified = notModified(headers, representation, currentVersion);
+        if (notModified != null) {
+            return notModified;
+        }
+        EmployeeJsonCache.Entry entry = employeeJsonCache.get(email, lookup);
+        return ResponseEntity.ok()
+                .headers(EmployeeETag.validators(entry.getVersion(), entry.getUpdatedAt(), MediaType.APPLICATION_JSON))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(entry.getJson());
+    }
+
+    /**
+     * Answers If-None-Match / If-Modified-Since from the employee's current version alone, so a
+     * 304 never builds or serialises the full response; anything else falls through to the lookup.
+     */
+    private static ResponseEntity<EmployeeResponse> conditionalGet(HttpHeaders headers,
+                                                                   Supplier<Optional<EmployeeVersion>> currentVersion,
+                                                                   Supplier<EmployeeResponse> lookup)
+            throws HttpMediaTypeNotAcceptableException {
+        MediaType representation = representation(headers);
+        ResponseEntity<EmployeeResponse> notModified = notModified(headers, representation, currentVersion);
+        return notModified != null ? notModified : ok(lookup.get(), representation);
+    }
+
+    /**
+     * The 304 for a conditional GET whose preconditions match the current version, otherwise null.
+     */
+    private static <T> ResponseEntity<T> notModified(HttpHeaders headers, MediaType representation,
+                                                     Supplier<Optional<EmployeeVersion>> currentVersion) {
+        if (EmployeeETag.isConditional(headers)) {
+            Optional<EmployeeVersion> current = currentVersion.get();
+            if (current.isPresent() && EmployeeETag.notModified(headers, current.get(), representation)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .headers(EmployeeETag.validators(current.get().getVersion(), current.get().getUpdatedAt(), representation))
+                        .build();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The format an employee response is written in: of {@link #REPRESENTATIONS}, the one with the
+     * highest quality in the Accept header (judged by the most specific type that admits it), the
+     * earlier one on a tie. The response's Content-Type is set to it, so the ETag always names
+     * the representation that is actually sent.
+     */
+    private static MediaType representation(HttpHeaders headers) throws HttpMediaTypeNotAcceptableException {
+        List<MediaType> accepted;
+        try {
+            accepted = headers.getAccept();
+        } catch (InvalidMediaTypeException e) {
+            throw new HttpMediaTypeNotAcceptableException(e.getMessage());
+        }
+        if (accepted.isEmpty()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        MediaType chosen = null;
+        double chosenQuality = 0;
+        for (MediaType candidate : REPRESENTATIONS) {
+            MediaType match = null;
+            for (MediaType type : accepted) {
+                if (type.includes(candidate) && (match == null || specificity(type) > specificity(match))) {
+                    match = type;
+                }
+            }
+            if (match != null && match.getQualityValue() > chosenQuality) {
+                chosen = candidate;
+                chosenQuality = match.getQualityValue();
+            }
+        }
+        if (chosen == null) {
+            throw new HttpMediaTypeNotAcceptableException(REPRESENTATIONS);
+        }
+        return chosen;
+    }
+
+    private static int specificity(MediaType type) {
+        return (type.isWildcardType() ? 0 : 1) + (type.isWildcardSubtype() ? 0 : 1);
+    }
+
+    private static ResponseEntity<EmployeeResponse> ok(EmployeeResponse response, MediaType representation) {
+        return ResponseEntity.ok()
+                .headers(validators(response, representation))
+                .contentType(representation)
+                .body(response);
+    }
+
+    private static HttpHeaders validators(EmployeeResponse response, MediaType representation) {
+        return EmployeeETag.validators(response.getVersion(), response.getUpdatedAt(), representation);
+    }
+}
@@ -0,0 +1,112 @@
+package com.assignment.employee.controller;
+
+import com.assignment.employee.dto.EmployeeVersion;
+import com.assignment.employee.exception.VersionConflictException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Maps an employee's version to a strong ETag and back from an If-Match header, and evaluates
+ * the If-None-Match / If-Modified-Since preconditions of a conditional GET. A strong ETag names
+ * one representation, so the tag depends on the wire format as well: {@code "3"} for JSON and
+ * {@code "3-cbor"} or {@code "3-x-jackson-smile"} for the binary formats, and responses carry
+ * {@code Vary: Accept}. If-Match only compares versions, whatever the format of the tag.
+ * Shared with the reactive variant of the API, hence public.
+ */
+public final class EmployeeETag {
+    private EmployeeETag() {
+    }
+
+    public static String of(Long version) {
+        return of(version, MediaType.APPLICATION_JSON);
+    }
+
+    public static String of(Long version, MediaType contentType) {
+        if (version == null) {
+            return null;
+        }
+        return contentType == null || contentType.isCompatibleWith(MediaType.APPLICATION_JSON)
+                ? "\"" + version + "\""
+                : "\"" + version + "-" + contentType.getSubtype() + "\"";
+    }
+
+    /**
+     * Returns the version the client expects, or null when the write is unconditional
+     * (no header or {@code *}). A tag that cannot be one of ours can never match.
+     */
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new VersionConflictException("If-Match " + ifMatch + " does not match the current version");
+        }
+        String value = tag.substring(1, tag.length() - 1);
+        int format = value.indexOf('-');
+        try {
+            return Long.valueOf(format > 0 ? value.substring(0, format) : value);
+        } catch (NumberFormatException e) {
+            throw new VersionConflictException("If-Match " + ifMatch + " does not match the current version");
+        }
+    }
+
+    public static boolean isConditional(HttpHeaders headers) {
+        return !headers.getIfNoneMatch().isEmpty() || headers.getIfModifiedSince() >= 0;
+    }
+
+    /**
+     * If-None-Match takes precedence and uses weak comparison; If-Modified-Since is only
+     * consulted without it, at the one-second precision of HTTP dates.
+     */
+    public static boolean notModified(HttpHeaders headers, EmployeeVersion current) {
+        return notModified(headers, current, MediaType.APPLICATION_JSON);
+    }
+
+    /**
+     * Like {@link #notModified(HttpHeaders, EmployeeVersion)} for the representation in
+     * {@code contentType}; a tag of another format does not match.
+     */
+    public static boolean notModified(HttpHeaders headers, EmployeeVersion current, MediaType contentType) {
+        String etag = of(current.getVersion(), contentType);
+        if (!headers.getIfNoneMatch().isEmpty()) {
+            if (etag == null) {
+                return false;
+            }
+            for (String tag : headers.getIfNoneMatch()) {
+                String candidate = tag.trim();
+                if (candidate.startsWith("W/")) {
+                    candidate = candidate.substring(2);
+                }
+                if (candidate.equals("*") || candidate.equals(etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        Instant updatedAt = current.getUpdatedAt();
+        return updatedAt != null && updatedAt.getEpochSecond() * 1000 <= headers.getIfModifiedSince();
+    }
+
+    /**
+     * ETag, Last-Modified and Vary headers for a JSON response at this version.
+     */
+    public static HttpHeaders validators(Long version, Instant updatedAt) {
+        return validators(version, updatedAt, MediaType.APPLICATION_JSON);
+    }
+
+    public static HttpHeaders validators(Long version, Instant updatedAt, MediaType contentType) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setVary(List.of(HttpHeaders.ACCEPT));
+        if (version != null) {
+            headers.setETag(of(version, contentType));
+        }
+        if (updatedAt != null) {
+            headers.setLastModified(updatedAt);
+        }
+        return headers;
+    }
+}
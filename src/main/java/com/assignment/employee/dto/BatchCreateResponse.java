@@ -0,0 +1,47 @@
+package com.assignment.employee.dto;
+
+import java.util.List;
+
+public class BatchCreateResponse {
+    private int created;
+    private int failed;
+    private List<BatchItemResult> results;
+
+    public BatchCreateResponse() {
+    }
+
+    public BatchCreateResponse(List<BatchItemResult> results) {
+        this.results = results;
+        for (BatchItemResult result : results) {
+            if (result.getStatus() == BatchItemResult.Status.CREATED) {
+                created++;
+            } else {
+                failed++;
+            }
+        }
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<BatchItemResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<BatchItemResult> results) {
+        this.results = results;
+    }
+}
@@ -0,0 +1,78 @@
+package com.assignment.employee.dto;
+
+import java.util.List;
+
+public class BatchItemResult {
+    public enum Status {
+        CREATED,
+        DUPLICATE_EMAIL,
+        INVALID
+    }
+
+    private int index;
+    private String email;
+    private Status status;
+    private EmployeeResponse employee;
+    private List<String> errors;
+
+    public BatchItemResult() {
+    }
+
+    public static BatchItemResult created(int index, EmployeeResponse employee) {
+        BatchItemResult result = new BatchItemResult();
+        result.setIndex(index);
+        result.setEmail(employee.getEmail());
+        result.setStatus(Status.CREATED);
+        result.setEmployee(employee);
+        return result;
+    }
+
+    public static BatchItemResult failed(int index, String email, Status status, List<String> errors) {
+        BatchItemResult result = new BatchItemResult();
+        result.setIndex(index);
+        result.setEmail(email);
+        result.setStatus(status);
+        result.setErrors(errors);
+        return result;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public EmployeeResponse getEmployee() {
+        return employee;
+    }
+
+    public void setEmployee(EmployeeResponse employee) {
+        this.employee = employee;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<String> errors) {
+        this.errors = errors;
+    }
+}
@@ -0,0 +1,88 @@
+package com.assignment.employee.dto;
+
+public class BloomFilterStatsResponse {
+    private boolean enabled;
+    private boolean ready;
+    private long bitCount;
+    private int hashFunctions;
+    private long insertions;
+    private long shortCircuitedLookups;
+    private long falsePositives;
+    private double observedFalsePositiveRate;
+    private double estimatedFalsePositiveRate;
+
+    public BloomFilterStatsResponse() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void setReady(boolean ready) {
+        this.ready = ready;
+    }
+
+    public long getBitCount() {
+        return bitCount;
+    }
+
+    public void setBitCount(long bitCount) {
+        this.bitCount = bitCount;
+    }
+
+    public int getHashFunctions() {
+        return hashFunctions;
+    }
+
+    public void setHashFunctions(int hashFunctions) {
+        this.hashFunctions = hashFunctions;
+    }
+
+    public long getInsertions() {
+        return insertions;
+    }
+
+    public void setInsertions(long insertions) {
+        this.insertions = insertions;
+    }
+
+    public long getShortCircuitedLookups() {
+        return shortCircuitedLookups;
+    }
+
+    public void setShortCircuitedLookups(long shortCircuitedLookups) {
+        this.shortCircuitedLookups = shortCircuitedLookups;
+    }
+
+    public long getFalsePositives() {
+        return falsePositives;
+    }
+
+    public void setFalsePositives(long falsePositives) {
+        this.falsePositives = falsePositives;
+    }
+
+    public double getObservedFalsePositiveRate() {
+        return observedFalsePositiveRate;
+    }
+
+    public void setObservedFalsePositiveRate(double observedFalsePositiveRate) {
+        this.observedFalsePositiveRate = observedFalsePositiveRate;
+    }
+
+    public double getEstimatedFalsePositiveRate() {
+        return estimatedFalsePositiveRate;
+    }
+
+    public void setEstimatedFalsePositiveRate(double estimatedFalsePositiveRate) {
+        this.estimatedFalsePositiveRate = estimatedFalsePositiveRate;
+    }
+}
@@ -0,0 +1,52 @@
+package com.assignment.employee.dto;
+
+public class CoalescingStatsResponse {
+    private boolean enabled;
+    private int inFlight;
+    private long executions;
+    private long coalesced;
+    private double coalescedRate;
+
+    public CoalescingStatsResponse() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    public void setInFlight(int inFlight) {
+        this.inFlight = inFlight;
+    }
+
+    public long getExecutions() {
+        return executions;
+    }
+
+    public void setExecutions(long executions) {
+        this.executions = executions;
+    }
+
+    public long getCoalesced() {
+        return coalesced;
+    }
+
+    public void setCoalesced(long coalesced) {
+        this.coalesced = coalesced;
+    }
+
+    public double getCoalescedRate() {
+        return coalescedRate;
+    }
+
+    public void setCoalescedRate(double coalescedRate) {
+        this.coalescedRate = coalescedRate;
+    }
+}
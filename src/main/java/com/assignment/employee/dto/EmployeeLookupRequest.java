@@ -0,0 +1,39 @@
+package com.assignment.employee.dto;
+
+import java.util.List;
+
+public class EmployeeLookupRequest {
+    private List<String> emails;
+    private List<String> names;
+
+    public EmployeeLookupRequest() {
+    }
+
+    public static EmployeeLookupRequest byEmails(List<String> emails) {
+        EmployeeLookupRequest request = new EmployeeLookupRequest();
+        request.setEmails(emails);
+        return request;
+    }
+
+    public static EmployeeLookupRequest byNames(List<String> names) {
+        EmployeeLookupRequest request = new EmployeeLookupRequest();
+        request.setNames(names);
+        return request;
+    }
+
+    public List<String> getEmails() {
+        return emails;
+    }
+
+    public void setEmails(List<String> emails) {
+        this.emails = emails;
+    }
+
+    public List<String> getNames() {
+        return names;
+    }
+
+    public void setNames(List<String> names) {
+        this.names = names;
+    }
+}
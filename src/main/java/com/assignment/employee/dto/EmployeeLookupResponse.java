@@ -0,0 +1,32 @@
+package com.assignment.employee.dto;
+
+import java.util.List;
+
+public class EmployeeLookupResponse {
+    private List<EmployeeResponse> found;
+    private List<String> missing;
+
+    public EmployeeLookupResponse() {
+    }
+
+    public EmployeeLookupResponse(List<EmployeeResponse> found, List<String> missing) {
+        this.found = found;
+        this.missing = missing;
+    }
+
+    public List<EmployeeResponse> getFound() {
+        return found;
+    }
+
+    public void setFound(List<EmployeeResponse> found) {
+        this.found = found;
+    }
+
+    public List<String> getMissing() {
+        return missing;
+    }
+
+    public void setMissing(List<String> missing) {
+        this.missing = missing;
+    }
+}
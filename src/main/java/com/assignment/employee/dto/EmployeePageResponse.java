@@ -0,0 +1,42 @@
+package com.assignment.employee.dto;
+
+import java.util.List;
+
+public class EmployeePageResponse {
+    private List<EmployeeResponse> items;
+    private int size;
+    private String nextCursor;
+
+    public EmployeePageResponse() {
+    }
+
+    public EmployeePageResponse(List<EmployeeResponse> items, String nextCursor) {
+        this.items = items;
+        this.size = items.size();
+        this.nextCursor = nextCursor;
+    }
+
+    public List<EmployeeResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<EmployeeResponse> items) {
+        this.items = items;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -1,5 +1,7 @@
 package com.assignment.employee.dto;
 
+import java.time.Instant;
+
 public class EmployeeResponse {
     private Long id;
     private String name;
@@ -7,10 +9,24 @@ public class EmployeeResponse {
     private String email;
     private String phone;
     private String address;
+    private Long version;
+    private Instant updatedAt;
 
     public EmployeeResponse() {
     }
 
+    public EmployeeResponse(Long id, String name, String lastName, String email, String phone, String address,
+                            Long version, Instant updatedAt) {
+        this.id = id;
+        this.name = name;
+        this.lastName = lastName;
+        this.email = email;
+        this.phone = phone;
+        this.address = address;
+        this.version = version;
+        this.updatedAt = updatedAt;
+    }
+
     public Long getId() {
         return id;
     }
@@ -58,5 +74,20 @@ public class EmployeeResponse {
     public void setAddress(String address) {
         this.address = address;
     }
-}
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
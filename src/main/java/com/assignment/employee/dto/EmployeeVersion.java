@@ -0,0 +1,32 @@
+package com.assignment.employee.dto;
+
+import java.time.Instant;
+
+public class EmployeeVersion {
+    private Long version;
+    private Instant updatedAt;
+
+    public EmployeeVersion() {
+    }
+
+    public EmployeeVersion(Long version, Instant updatedAt) {
+        this.version = version;
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -1,17 +1,24 @@
 package com.assignment.employee.dto;
 
-import java.time.LocalDateTime;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
 import java.util.List;
 
+/**
+ * Error body for every failed request. The timestamp is an {@link Instant} (UTC), which avoids
+ * resolving the default time zone for each error; {@code details} is omitted when empty.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class ErrorResponse {
-    private LocalDateTime timestamp;
+    private Instant timestamp;
     private int status;
     private String error;
     private String message;
     private List<String> details;
 
     public ErrorResponse() {
-        this.timestamp = LocalDateTime.now();
+        this.timestamp = Instant.now();
     }
 
     public ErrorResponse(int status, String error, String message) {
@@ -26,11 +33,11 @@ public class ErrorResponse {
         this.details = details;
     }
 
-    public LocalDateTime getTimestamp() {
+    public Instant getTimestamp() {
         return timestamp;
     }
 
-    public void setTimestamp(LocalDateTime timestamp) {
+    public void setTimestamp(Instant timestamp) {
         this.timestamp = timestamp;
     }
 
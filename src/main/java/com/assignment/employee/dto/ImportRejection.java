@@ -0,0 +1,42 @@
+package com.assignment.employee.dto;
+
+import java.util.List;
+
+public class ImportRejection {
+    private long line;
+    private String email;
+    private List<String> errors;
+
+    public ImportRejection() {
+    }
+
+    public ImportRejection(long line, String email, List<String> errors) {
+        this.line = line;
+        this.email = email;
+        this.errors = errors;
+    }
+
+    public long getLine() {
+        return line;
+    }
+
+    public void setLine(long line) {
+        this.line = line;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<String> errors) {
+        this.errors = errors;
+    }
+}
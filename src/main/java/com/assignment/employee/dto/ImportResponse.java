@@ -0,0 +1,109 @@
+package com.assignment.employee.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ImportResponse {
+    private String importId;
+    private String format;
+    private long resumedAfterLine;
+    private long linesRead;
+    private long imported;
+    private long rejected;
+    private long lastCommittedLine;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    private boolean rejectionsTruncated;
+    private List<ImportRejection> rejections = new ArrayList<>();
+
+    public ImportResponse() {
+    }
+
+    public String getImportId() {
+        return importId;
+    }
+
+    public void setImportId(String importId) {
+        this.importId = importId;
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public void setFormat(String format) {
+        this.format = format;
+    }
+
+    public long getResumedAfterLine() {
+        return resumedAfterLine;
+    }
+
+    public void setResumedAfterLine(long resumedAfterLine) {
+        this.resumedAfterLine = resumedAfterLine;
+    }
+
+    public long getLinesRead() {
+        return linesRead;
+    }
+
+    public void setLinesRead(long linesRead) {
+        this.linesRead = linesRead;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public void setImported(long imported) {
+        this.imported = imported;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+
+    public long getLastCommittedLine() {
+        return lastCommittedLine;
+    }
+
+    public void setLastCommittedLine(long lastCommittedLine) {
+        this.lastCommittedLine = lastCommittedLine;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public double getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    public void setRowsPerSecond(double rowsPerSecond) {
+        this.rowsPerSecond = rowsPerSecond;
+    }
+
+    public boolean isRejectionsTruncated() {
+        return rejectionsTruncated;
+    }
+
+    public void setRejectionsTruncated(boolean rejectionsTruncated) {
+        this.rejectionsTruncated = rejectionsTruncated;
+    }
+
+    public List<ImportRejection> getRejections() {
+        return rejections;
+    }
+
+    public void setRejections(List<ImportRejection> rejections) {
+        this.rejections = rejections;
+    }
+}
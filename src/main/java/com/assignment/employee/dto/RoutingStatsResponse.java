@@ -0,0 +1,45 @@
+package com.assignment.employee.dto;
+
+import java.util.List;
+
+public class RoutingStatsResponse {
+    private String preferred;
+    private double exploration;
+    private long switches;
+    private List<RoutingStrategyStats> strategies;
+
+    public RoutingStatsResponse() {
+    }
+
+    public String getPreferred() {
+        return preferred;
+    }
+
+    public void setPreferred(String preferred) {
+        this.preferred = preferred;
+    }
+
+    public double getExploration() {
+        return exploration;
+    }
+
+    public void setExploration(double exploration) {
+        this.exploration = exploration;
+    }
+
+    public long getSwitches() {
+        return switches;
+    }
+
+    public void setSwitches(long switches) {
+        this.switches = switches;
+    }
+
+    public List<RoutingStrategyStats> getStrategies() {
+        return strategies;
+    }
+
+    public void setStrategies(List<RoutingStrategyStats> strategies) {
+        this.strategies = strategies;
+    }
+}
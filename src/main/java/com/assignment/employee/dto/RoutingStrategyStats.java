@@ -0,0 +1,52 @@
+package com.assignment.employee.dto;
+
+public class RoutingStrategyStats {
+    private String strategy;
+    private long routed;
+    private double weight;
+    private double p50Millis;
+    private double p99Millis;
+
+    public RoutingStrategyStats() {
+    }
+
+    public String getStrategy() {
+        return strategy;
+    }
+
+    public void setStrategy(String strategy) {
+        this.strategy = strategy;
+    }
+
+    public long getRouted() {
+        return routed;
+    }
+
+    public void setRouted(long routed) {
+        this.routed = routed;
+    }
+
+    public double getWeight() {
+        return weight;
+    }
+
+    public void setWeight(double weight) {
+        this.weight = weight;
+    }
+
+    public double getP50Millis() {
+        return p50Millis;
+    }
+
+    public void setP50Millis(double p50Millis) {
+        this.p50Millis = p50Millis;
+    }
+
+    public double getP99Millis() {
+        return p99Millis;
+    }
+
+    public void setP99Millis(double p99Millis) {
+        this.p99Millis = p99Millis;
+    }
+}
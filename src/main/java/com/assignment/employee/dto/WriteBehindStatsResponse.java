@@ -0,0 +1,115 @@
+package com.assignment.employee.dto;
+
+public class WriteBehindStatsResponse {
+    private boolean enabled;
+    private String durability;
+    private int pending;
+    private int capacity;
+    private long accepted;
+    private long coalesced;
+    private long rejected;
+    private long flushes;
+    private long flushed;
+    private long missing;
+    private long failedFlushes;
+    private double coalescedRate;
+
+    public WriteBehindStatsResponse() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getDurability() {
+        return durability;
+    }
+
+    public void setDurability(String durability) {
+        this.durability = durability;
+    }
+
+    public int getPending() {
+        return pending;
+    }
+
+    public void setPending(int pending) {
+        this.pending = pending;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public long getAccepted() {
+        return accepted;
+    }
+
+    public void setAccepted(long accepted) {
+        this.accepted = accepted;
+    }
+
+    public long getCoalesced() {
+        return coalesced;
+    }
+
+    public void setCoalesced(long coalesced) {
+        this.coalesced = coalesced;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+
+    public long getFlushes() {
+        return flushes;
+    }
+
+    public void setFlushes(long flushes) {
+        this.flushes = flushes;
+    }
+
+    public long getFlushed() {
+        return flushed;
+    }
+
+    public void setFlushed(long flushed) {
+        this.flushed = flushed;
+    }
+
+    public long getMissing() {
+        return missing;
+    }
+
+    public void setMissing(long missing) {
+        this.missing = missing;
+    }
+
+    public long getFailedFlushes() {
+        return failedFlushes;
+    }
+
+    public void setFailedFlushes(long failedFlushes) {
+        this.failedFlushes = failedFlushes;
+    }
+
+    public double getCoalescedRate() {
+        return coalescedRate;
+    }
+
+    public void setCoalescedRate(double coalescedRate) {
+        this.coalescedRate = coalescedRate;
+    }
+}
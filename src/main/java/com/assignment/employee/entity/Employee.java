@@ -1,14 +1,48 @@
 package com.assignment.employee.entity;
 
+import com.assignment.employee.dto.EmployeeResponse;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.Instant;
 
 @Entity
-@Table(name = "employees")
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "employees")
+@NaturalIdCache(region = "employees-by-email")
+@SqlResultSetMapping(name = "EmployeeResponse", classes = @ConstructorResult(
+        targetClass = EmployeeResponse.class,
+        columns = {
+                @ColumnResult(name = "id", type = Long.class),
+                @ColumnResult(name = "name"),
+                @ColumnResult(name = "last_name"),
+                @ColumnResult(name = "email"),
+                @ColumnResult(name = "phone"),
+                @ColumnResult(name = "address"),
+                @ColumnResult(name = "version", type = Long.class),
+                @ColumnResult(name = "updated_at", type = Instant.class)
+        }))
+@NamedNativeQuery(name = "Employee.findResponseByEmailUsingNativeSQL",
+        query = "SELECT id, name, last_name, email, phone, address, version, updated_at FROM employees WHERE email = :email",
+        resultSetMapping = "EmployeeResponse")
+@NamedNativeQuery(name = "Employee.findResponseByNameUsingNativeSQL",
+        query = "SELECT id, name, last_name, email, phone, address, version, updated_at FROM employees WHERE name = :name",
+        resultSetMapping = "EmployeeResponse")
+@Table(name = "employees", indexes = {
+        @Index(name = "idx_employees_last_name_id", columnList = "last_name, id")
+})
 public class Employee {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employee_seq")
+    @SequenceGenerator(name = "employee_seq", sequenceName = "employees_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Name is required")
@@ -20,6 +54,7 @@ public class Employee {
 
     @NotBlank(message = "Email is required")
     @Email(message = "Email should be valid")
+    @NaturalId
     @Column(nullable = false, unique = true)
     private String email;
 
@@ -29,6 +64,14 @@ public class Employee {
     @Column
     private String address;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
     public Employee() {
     }
 
@@ -90,5 +133,20 @@ public class Employee {
     public void setAddress(String address) {
         this.address = address;
     }
-}
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
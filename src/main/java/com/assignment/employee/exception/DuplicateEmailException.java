@@ -0,0 +1,10 @@
+package com.assignment.employee.exception;
+
+/**
+ * Thrown when an employee is created with an email that another employee already has.
+ */
+public class DuplicateEmailException extends RuntimeException {
+    public DuplicateEmailException(String email) {
+        super("Employee already exists with email: " + email);
+    }
+}
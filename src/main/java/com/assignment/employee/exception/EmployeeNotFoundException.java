@@ -0,0 +1,19 @@
+package com.assignment.employee.exception;
+
+/**
+ * Thrown when no employee has the requested email or name. Misses are an expected outcome, so
+ * the exception carries no stack trace: filling one in would cost more than the miss itself.
+ */
+public class EmployeeNotFoundException extends RuntimeException {
+    private EmployeeNotFoundException(String message) {
+        super(message, null, false, false);
+    }
+
+    public static EmployeeNotFoundException byEmail(String email) {
+        return new EmployeeNotFoundException("Employee not found with email: " + email);
+    }
+
+    public static EmployeeNotFoundException byName(String name) {
+        return new EmployeeNotFoundException("Employee not found with name: " + name);
+    }
+}
@@ -0,0 +1,12 @@
+package com.assignment.employee.exception;
+
+/**
+ * Thrown when a request is well-formed but its values are not acceptable, e.g. a batch or page
+ * that is too large, an unknown sort or export format, or a cursor that was not issued by us.
+ * Answered with 400 and this message, so the message must be meant for the client.
+ */
+public class InvalidRequestException extends RuntimeException {
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
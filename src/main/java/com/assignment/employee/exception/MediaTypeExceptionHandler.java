@@ -0,0 +1,54 @@
+package com.assignment.employee.exception;
+
+import com.assignment.employee.dto.ErrorResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Content negotiation failures of the servlet API. These exceptions are servlet types, so they
+ * are kept out of {@link GlobalExceptionHandler}, which the reactive API shares, and handled
+ * here ahead of its catch-all for server errors.
+ */
+@RestControllerAdvice
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class MediaTypeExceptionHandler {
+    /**
+     * None of the formats the client accepts can be produced. The error itself is written as
+     * JSON, since no acceptable format exists to write it in.
+     */
+    @ExceptionHandler(HttpMediaTypeNotAcceptableException.class)
+    public ResponseEntity<ErrorResponse> handleMediaTypeNotAcceptable(HttpMediaTypeNotAcceptableException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.NOT_ACCEPTABLE.value(),
+                "Not Acceptable",
+                "Acceptable representations: " + MediaType.toString(ex.getSupportedMediaTypes())
+        );
+        return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).contentType(MediaType.APPLICATION_JSON).body(errorResponse);
+    }
+
+    /**
+     * The body's Content-Type cannot be read; the Accept header of the response lists those that can.
+     */
+    @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
+    public ResponseEntity<ErrorResponse> handleMediaTypeNotSupported(HttpMediaTypeNotSupportedException ex) {
+        MediaType contentType = ex.getContentType();
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.UNSUPPORTED_MEDIA_TYPE.value(),
+                "Unsupported Media Type",
+                contentType == null
+                        ? "Missing Content-Type"
+                        : "Content-Type " + contentType.getType() + "/" + contentType.getSubtype() + " is not supported"
+        );
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(ex.getSupportedMediaTypes());
+        return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).headers(headers).body(errorResponse);
+    }
+}
@@ -0,0 +1,15 @@
+package com.assignment.employee.exception;
+
+/**
+ * Thrown when a conditional write carries an If-Match version that no longer matches the
+ * stored employee, i.e. someone else updated it first.
+ */
+public class VersionConflictException extends RuntimeException {
+    public VersionConflictException(String email, Long expectedVersion) {
+        super("Employee " + email + " is no longer at version " + expectedVersion);
+    }
+
+    public VersionConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.assignment.employee.exception;
+
+/**
+ * Thrown when the write-behind buffer stays full for longer than the configured offer timeout,
+ * i.e. the database cannot keep up with the accepted writes.
+ */
+public class WriteBehindFullException extends RuntimeException {
+    public WriteBehindFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,136 @@
+package com.assignment.employee.repository;
+
+import com.assignment.employee.entity.Employee;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.StringJoiner;
+
+/**
+ * A specification made of attribute equalities combined with AND/OR, which keeps its shape
+ * (the attributes and how they are combined) apart from its values. Queries built from the
+ * shape take the values as parameters, so one compiled query serves every specification of
+ * that shape; see {@link EmployeeRepositoryImpl#findResponse(Specification)}. Used anywhere
+ * else, it is an ordinary specification with the values inlined.
+ */
+public final class EmployeeCriteria implements Specification<Employee> {
+    private enum Kind { EQUAL, AND, OR }
+
+    private final Kind kind;
+    private final String attribute;
+    private final List<EmployeeCriteria> parts;
+    private final String shape;
+    private final List<Object> values;
+
+    private EmployeeCriteria(String attribute, Object value) {
+        this.kind = Kind.EQUAL;
+        this.attribute = attribute;
+        this.parts = List.of();
+        this.shape = attribute;
+        this.values = Collections.singletonList(value);
+    }
+
+    private EmployeeCriteria(Kind kind, List<EmployeeCriteria> parts) {
+        if (parts.isEmpty()) {
+            throw new IllegalArgumentException("A combined specification needs at least one part");
+        }
+        this.kind = kind;
+        this.attribute = null;
+        this.parts = List.copyOf(parts);
+        StringJoiner shape = new StringJoiner(",", kind.name().toLowerCase(Locale.ROOT) + "(", ")");
+        List<Object> values = new ArrayList<>();
+        for (EmployeeCriteria part : parts) {
+            shape.add(part.shape);
+            values.addAll(part.values);
+        }
+        this.shape = shape.toString();
+        this.values = Collections.unmodifiableList(values);
+    }
+
+    static EmployeeCriteria equal(String attribute, Object value) {
+        return new EmployeeCriteria(attribute, value);
+    }
+
+    static EmployeeCriteria and(List<EmployeeCriteria> parts) {
+        return new EmployeeCriteria(Kind.AND, parts);
+    }
+
+    static EmployeeCriteria or(List<EmployeeCriteria> parts) {
+        return new EmployeeCriteria(Kind.OR, parts);
+    }
+
+    /**
+     * Identifies the compiled query, e.g. {@code email} or {@code and(name,or(email,phone))}.
+     */
+    public String getShape() {
+        return shape;
+    }
+
+    public List<Object> getValues() {
+        return values;
+    }
+
+    @Override
+    public Predicate toPredicate(Root<Employee> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+        return predicate(root, criteriaBuilder, new int[1]);
+    }
+
+    /**
+     * The condition for this shape as JPQL on the entity {@code alias}, with the values replaced
+     * by parameters {@code :p0, :p1, ...} in the order of {@link #getValues()}. Attribute names
+     * come from the factories in {@link EmployeeSpecifications}, never from input.
+     */
+    String toParameterizedJpql(String alias) {
+        StringBuilder jpql = new StringBuilder();
+        appendJpql(jpql, alias, new int[1]);
+        return jpql.toString();
+    }
+
+    void bind(TypedQuery<?> query) {
+        for (int i = 0; i < values.size(); i++) {
+            query.setParameter(parameterName(i), values.get(i));
+        }
+    }
+
+    /**
+     * {@code next} tracks the position in {@link #getValues()} across the nested parts.
+     */
+    private Predicate predicate(Root<Employee> root, CriteriaBuilder criteriaBuilder, int[] next) {
+        if (kind == Kind.EQUAL) {
+            return criteriaBuilder.equal(root.get(attribute), values.get(next[0]++));
+        }
+        Predicate[] predicates = new Predicate[parts.size()];
+        for (int i = 0; i < predicates.length; i++) {
+            predicates[i] = parts.get(i).predicate(root, criteriaBuilder, next);
+        }
+        return kind == Kind.AND ? criteriaBuilder.and(predicates) : criteriaBuilder.or(predicates);
+    }
+
+    private void appendJpql(StringBuilder jpql, String alias, int[] next) {
+        if (kind == Kind.EQUAL) {
+            jpql.append(alias).append('.').append(attribute).append(" = :").append(parameterName(next[0]++));
+            return;
+        }
+        String operator = kind == Kind.AND ? " AND " : " OR ";
+        jpql.append('(');
+        for (int i = 0; i < parts.size(); i++) {
+            if (i > 0) {
+                jpql.append(operator);
+            }
+            parts.get(i).appendJpql(jpql, alias, next);
+        }
+        jpql.append(')');
+    }
+
+    private static String parameterName(int index) {
+        return "p" + index;
+    }
+}
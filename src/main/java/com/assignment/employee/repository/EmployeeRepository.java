@@ -1,16 +1,27 @@
 package com.assignment.employee.repository;
 
+import com.assignment.employee.dto.EmployeeResponse;
+import com.assignment.employee.dto.EmployeeVersion;
 import com.assignment.employee.entity.Employee;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSpecificationExecutor<Employee> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSpecificationExecutor<Employee>,
+        EmployeeRepositoryCustom {
     @Query("SELECT e FROM Employee e WHERE e.email = :email")
     Optional<Employee> findByEmailUsingHQL(@Param("email") String email);
 
@@ -22,5 +33,82 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSp
 
     @Query(value = "SELECT * FROM employees WHERE name = :name", nativeQuery = true)
     Optional<Employee> findByNameUsingNativeSQL(@Param("name") String name);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.assignment.employee.dto.EmployeeResponse(e.id, e.name, e.lastName, e.email, e.phone, e.address, e.version, e.updatedAt) " +
+            "FROM Employee e WHERE e.email = :email")
+    Optional<EmployeeResponse> findResponseByEmailUsingHQL(@Param("email") String email);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.assignment.employee.dto.EmployeeResponse(e.id, e.name, e.lastName, e.email, e.phone, e.address, e.version, e.updatedAt) " +
+            "FROM Employee e WHERE e.name = :name")
+    Optional<EmployeeResponse> findResponseByNameUsingHQL(@Param("name") String name);
+
+    @Query(name = "Employee.findResponseByEmailUsingNativeSQL", nativeQuery = true)
+    Optional<EmployeeResponse> findResponseByEmailUsingNativeSQL(@Param("email") String email);
+
+    @Query(name = "Employee.findResponseByNameUsingNativeSQL", nativeQuery = true)
+    Optional<EmployeeResponse> findResponseByNameUsingNativeSQL(@Param("name") String name);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.assignment.employee.dto.EmployeeResponse(e.id, e.name, e.lastName, e.email, e.phone, e.address, e.version, e.updatedAt) " +
+            "FROM Employee e WHERE e.email IN :emails")
+    List<EmployeeResponse> findResponsesByEmailIn(@Param("emails") Collection<String> emails);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.assignment.employee.dto.EmployeeResponse(e.id, e.name, e.lastName, e.email, e.phone, e.address, e.version, e.updatedAt) " +
+            "FROM Employee e WHERE e.name IN :names ORDER BY e.id")
+    List<EmployeeResponse> findResponsesByNameIn(@Param("names") Collection<String> names);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.assignment.employee.dto.EmployeeVersion(e.version, e.updatedAt) FROM Employee e WHERE e.email = :email")
+    Optional<EmployeeVersion> findVersionByEmail(@Param("email") String email);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.assignment.employee.dto.EmployeeVersion(e.version, e.updatedAt) FROM Employee e WHERE e.name = :name")
+    Optional<EmployeeVersion> findVersionByName(@Param("name") String name);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Employee e SET e.phone = :phone, e.version = e.version + 1, e.updatedAt = instant " +
+            "WHERE e.email = :email AND (:version IS NULL OR e.version = :version)")
+    int updatePhoneByEmail(@Param("email") String email, @Param("phone") String phone, @Param("version") Long version);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Employee e WHERE e.email = :email AND (:version IS NULL OR e.version = :version)")
+    int deleteByEmail(@Param("email") String email, @Param("version") Long version);
+
+    boolean existsByEmail(String email);
+
+    @Query("SELECT e.email FROM Employee e WHERE e.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT e FROM Employee e WHERE e.id > :afterId ORDER BY e.id")
+    List<Employee> findPageOrderById(@Param("afterId") long afterId, Limit limit);
+
+    @Query("SELECT e FROM Employee e ORDER BY e.lastName ASC NULLS FIRST, e.id")
+    List<Employee> findFirstPageOrderByLastName(Limit limit);
+
+    @Query("SELECT e FROM Employee e WHERE e.lastName IS NULL AND e.id > :afterId ORDER BY e.id")
+    List<Employee> findPageAfterNullLastName(@Param("afterId") long afterId, Limit limit);
+
+    // every non-null last name sorts at or after '', so this starts past the NULLs
+    @Query("SELECT e FROM Employee e WHERE e.lastName >= '' ORDER BY e.lastName, e.id")
+    List<Employee> findFirstPageWithLastName(Limit limit);
+
+    // the leading >= bounds the range on (last_name, id), so a deep page does not scan its predecessors
+    @Query("SELECT e FROM Employee e WHERE e.lastName >= :lastName AND (e.lastName > :lastName OR e.id > :afterId) " +
+            "ORDER BY e.lastName ASC NULLS FIRST, e.id")
+    List<Employee> findPageAfterLastName(@Param("lastName") String lastName, @Param("afterId") long afterId, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM Employee e ORDER BY e.id")
+    Stream<Employee> streamAllOrderById();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT e.email FROM Employee e")
+    Stream<String> streamAllEmails();
 }
 
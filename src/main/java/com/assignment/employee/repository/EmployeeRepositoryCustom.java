@@ -0,0 +1,15 @@
+package com.assignment.employee.repository;
+
+import com.assignment.employee.dto.EmployeeResponse;
+import com.assignment.employee.entity.Employee;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Optional;
+
+public interface EmployeeRepositoryCustom {
+    Optional<Employee> findByEmailUsingNaturalId(String email);
+
+    Optional<EmployeeResponse> findResponse(Specification<Employee> spec);
+
+    int updateByEmail(String email, String lastName, String phone, String address, Long version);
+}
@@ -0,0 +1,134 @@
+package com.assignment.employee.repository;
+
+import com.assignment.employee.dto.EmployeeResponse;
+import com.assignment.employee.entity.Employee;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public class EmployeeRepositoryImpl implements EmployeeRepositoryCustom {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private static final String SELECT_RESPONSE =
+            "SELECT new com.assignment.employee.dto.EmployeeResponse(e.id, e.name, e.lastName, e.email, e.phone, e.address, e.version, e.updatedAt) " +
+            "FROM Employee e WHERE ";
+
+    /**
+     * JPQL per {@link EmployeeCriteria} shape. Shapes come from code, not from input, so this
+     * stays small.
+     */
+    private final ConcurrentMap<String, String> compiledQueries = new ConcurrentHashMap<>();
+
+    /**
+     * Resolves the employee through Hibernate's natural-id API, which consults the natural-id
+     * and entity caches before issuing any SQL when the second-level cache is enabled.
+     */
+    @Override
+    public Optional<Employee> findByEmailUsingNaturalId(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Employee.class)
+                .loadOptional(email);
+    }
+
+    /**
+     * Specification counterpart of the HQL projection queries: selects the response columns
+     * straight into {@link EmployeeResponse} instead of materialising managed entities.
+     * An {@link EmployeeCriteria} is rendered once per shape into a JPQL string with its values
+     * as parameters. Hibernate caches the plans of query strings, so later lookups of that shape
+     * only bind values and reuse the plan; other specifications build a new criteria query on
+     * every call.
+     */
+    @Override
+    public Optional<EmployeeResponse> findResponse(Specification<Employee> spec) {
+        TypedQuery<EmployeeResponse> query;
+        if (spec instanceof EmployeeCriteria criteria) {
+            String jpql = compiledQueries.computeIfAbsent(criteria.getShape(),
+                    shape -> SELECT_RESPONSE + criteria.toParameterizedJpql("e"));
+            query = entityManager.createQuery(jpql, EmployeeResponse.class);
+            criteria.bind(query);
+        } else {
+            CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+            CriteriaQuery<EmployeeResponse> criteriaQuery = responseQuery(criteriaBuilder);
+            Root<Employee> root = root(criteriaQuery);
+            criteriaQuery.where(spec.toPredicate(root, criteriaQuery, criteriaBuilder));
+            query = entityManager.createQuery(criteriaQuery);
+        }
+
+        List<EmployeeResponse> results = query
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setMaxResults(2)
+                .getResultList();
+        if (results.size() > 1) {
+            throw new IncorrectResultSizeDataAccessException(1);
+        }
+        return results.stream().findFirst();
+    }
+
+    private static CriteriaQuery<EmployeeResponse> responseQuery(CriteriaBuilder criteriaBuilder) {
+        CriteriaQuery<EmployeeResponse> query = criteriaBuilder.createQuery(EmployeeResponse.class);
+        Root<Employee> root = query.from(Employee.class);
+        return query.select(criteriaBuilder.construct(EmployeeResponse.class,
+                root.get("id"), root.get("name"), root.get("lastName"),
+                root.get("email"), root.get("phone"), root.get("address"),
+                root.get("version"), root.get("updatedAt")));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Root<Employee> root(CriteriaQuery<?> query) {
+        return (Root<Employee>) query.getRoots().iterator().next();
+    }
+
+    /**
+     * Updates the employee in a single statement that sets only the non-null columns and bumps
+     * the version, and returns the number of rows affected. When {@code version} is given the
+     * row only matches at that version, so 0 means either no such employee or a lost race.
+     * Callers must filter out updates with nothing to set, since an UPDATE needs a column.
+     */
+    @Override
+    public int updateByEmail(String email, String lastName, String phone, String address, Long version) {
+        HibernateCriteriaBuilder criteriaBuilder = entityManager.unwrap(Session.class).getCriteriaBuilder();
+        CriteriaUpdate<Employee> update = criteriaBuilder.createCriteriaUpdate(Employee.class);
+        Root<Employee> root = update.from(Employee.class);
+        if (lastName != null) {
+            update.set(root.<String>get("lastName"), lastName);
+        }
+        if (phone != null) {
+            update.set(root.<String>get("phone"), phone);
+        }
+        if (address != null) {
+            update.set(root.<String>get("address"), address);
+        }
+        Path<Long> versionPath = root.get("version");
+        update.set(versionPath, criteriaBuilder.sum(versionPath, 1L));
+        update.set(root.<Instant>get("updatedAt"), criteriaBuilder.currentInstant());
+
+        Predicate matches = criteriaBuilder.equal(root.get("email"), email);
+        if (version != null) {
+            matches = criteriaBuilder.and(matches, criteriaBuilder.equal(versionPath, version));
+        }
+        update.where(matches);
+
+        entityManager.flush();
+        int updated = entityManager.createQuery(update).executeUpdate();
+        entityManager.clear();
+        return updated;
+    }
+}
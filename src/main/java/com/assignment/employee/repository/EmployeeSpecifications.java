@@ -1,17 +1,35 @@
 package com.assignment.employee.repository;
 
-import com.assignment.employee.entity.Employee;
-import org.springframework.data.jpa.domain.Specification;
+import java.util.List;
 
+/**
+ * Factories for employee specifications. They return {@link EmployeeCriteria}, so
+ * {@link EmployeeRepository#findResponse} runs them as compiled, parameterised queries;
+ * combine them with {@link #allOf} and {@link #anyOf} rather than {@code Specification.and/or}
+ * to keep that.
+ */
 public class EmployeeSpecifications {
-    public static Specification<Employee> hasEmail(String email) {
-        return (root, query, criteriaBuilder) ->
-                criteriaBuilder.equal(root.get("email"), email);
+    public static EmployeeCriteria hasEmail(String email) {
+        return EmployeeCriteria.equal("email", email);
     }
 
-    public static Specification<Employee> hasName(String name) {
-        return (root, query, criteriaBuilder) ->
-                criteriaBuilder.equal(root.get("name"), name);
+    public static EmployeeCriteria hasName(String name) {
+        return EmployeeCriteria.equal("name", name);
+    }
+
+    public static EmployeeCriteria hasLastName(String lastName) {
+        return EmployeeCriteria.equal("lastName", lastName);
+    }
+
+    public static EmployeeCriteria hasPhone(String phone) {
+        return EmployeeCriteria.equal("phone", phone);
     }
-}
 
+    public static EmployeeCriteria allOf(EmployeeCriteria... criteria) {
+        return EmployeeCriteria.and(List.of(criteria));
+    }
+
+    public static EmployeeCriteria anyOf(EmployeeCriteria... criteria) {
+        return EmployeeCriteria.or(List.of(criteria));
+    }
+}
@@ -0,0 +1,156 @@
+package com.assignment.employee.service;
+
+import com.assignment.employee.dto.BloomFilterStatsResponse;
+import com.assignment.employee.repository.EmployeeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+/**
+ * In-memory Bloom filter over every persisted employee email, used to answer lookups for
+ * emails that certainly do not exist without a database round trip.
+ * <p>
+ * The filter is filled from the table once the application is ready and every insert adds its
+ * email before the row is written, so a committed email is never reported absent. Deleted
+ * emails cannot be removed and only raise the false-positive rate, which is tracked from the
+ * lookups that passed the filter but found nothing. Until the initial build completes, every
+ * email is treated as possibly present.
+ */
+@Component
+public class EmailBloomFilter {
+    private final boolean enabled;
+    private final int hashFunctions;
+    private final long bitCount;
+    private final AtomicLongArray bits;
+
+    private volatile boolean ready;
+    private final AtomicLong insertions = new AtomicLong();
+    private final AtomicLong shortCircuited = new AtomicLong();
+    private final AtomicLong falsePositives = new AtomicLong();
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    public EmailBloomFilter(@Value("${employee.bloom.enabled:true}") boolean enabled,
+                            @Value("${employee.bloom.expected-insertions:1000000}") long expectedInsertions,
+                            @Value("${employee.bloom.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.enabled = enabled;
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = enabled ? Math.max(64, optimalBits) : 64;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) optimalBits / expectedInsertions * Math.log(2)));
+        this.bits = new AtomicLongArray((int) ((bitCount + 63) / 64));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void build() {
+        if (!enabled) {
+            return;
+        }
+        try (Stream<String> emails = employeeRepository.streamAllEmails()) {
+            emails.forEach(this::put);
+        }
+        ready = true;
+    }
+
+    public void put(String email) {
+        if (!enabled || email == null) {
+            return;
+        }
+        long hash1 = hash(email);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashFunctions; i++) {
+            setBit(Math.floorMod(hash1 + i * hash2, bitCount));
+        }
+        insertions.incrementAndGet();
+    }
+
+    /**
+     * Returns {@code false} only when {@code email} has certainly never been inserted.
+     * Such a miss is counted as a short-circuited lookup.
+     */
+    public boolean mightContain(String email) {
+        if (!enabled || !ready) {
+            return true;
+        }
+        long hash1 = hash(email);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashFunctions; i++) {
+            if (!getBit(Math.floorMod(hash1 + i * hash2, bitCount))) {
+                shortCircuited.incrementAndGet();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Records that a lookup passed the filter but the database had no such email.
+     */
+    public void recordFalsePositive() {
+        if (enabled && ready) {
+            falsePositives.incrementAndGet();
+        }
+    }
+
+    public BloomFilterStatsResponse stats() {
+        long setBits = 0;
+        for (int i = 0; i < bits.length(); i++) {
+            setBits += Long.bitCount(bits.get(i));
+        }
+        long misses = shortCircuited.get() + falsePositives.get();
+
+        BloomFilterStatsResponse response = new BloomFilterStatsResponse();
+        response.setEnabled(enabled);
+        response.setReady(ready);
+        response.setBitCount(bitCount);
+        response.setHashFunctions(hashFunctions);
+        response.setInsertions(insertions.get());
+        response.setShortCircuitedLookups(shortCircuited.get());
+        response.setFalsePositives(falsePositives.get());
+        response.setObservedFalsePositiveRate(misses == 0 ? 0 : (double) falsePositives.get() / misses);
+        response.setEstimatedFalsePositiveRate(Math.pow((double) setBits / bitCount, hashFunctions));
+        return response;
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+
+    private boolean getBit(long index) {
+        return (bits.get((int) (index >>> 6)) & (1L << index)) != 0;
+    }
+
+    private static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,191 @@
+package com.assignment.employee.service;
+
+import com.assignment.employee.dto.EmployeeResponse;
+import com.assignment.employee.repository.EmployeeRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Optional micro-batching of email lookups. Callers enqueue their email and wait; a dispatcher
+ * thread gathers the lookups that arrive within {@code window} (or until {@code max-size}
+ * distinct emails are queued) and resolves them with a single IN query on a small worker pool,
+ * then hands each caller its row. Under high concurrency this turns many single-row SELECTs,
+ * each holding a pooled connection, into a few multi-row ones.
+ * <p>
+ * Every queued lookup is completed, with an exception if its batch cannot run (shutdown,
+ * rejected task, failed query), and callers give up after {@code timeout} in any case.
+ */
+@Component
+public class EmailLookupBatcher {
+    private final boolean enabled;
+    private final long windowNanos;
+    private final int maxSize;
+    private final int workers;
+    private final long timeoutNanos;
+    private final BlockingQueue<PendingLookup> queue = new LinkedBlockingQueue<>();
+
+    private Thread dispatcher;
+    private ExecutorService executor;
+    private volatile boolean running;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    public EmailLookupBatcher(@Value("${employee.microbatch.enabled:false}") boolean enabled,
+                              @Value("${employee.microbatch.window:1ms}") Duration window,
+                              @Value("${employee.microbatch.max-size:64}") int maxSize,
+                              @Value("${employee.microbatch.workers:4}") int workers,
+                              @Value("${employee.microbatch.timeout:5s}") Duration timeout) {
+        this.enabled = enabled;
+        this.windowNanos = window.toNanos();
+        this.maxSize = maxSize;
+        this.workers = workers;
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "email-lookup-batch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dispatcher = new Thread(this::dispatch, "email-lookup-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        dispatcher.interrupt();
+        executor.shutdown();
+        failQueued();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues the lookup and blocks until its batch has run. Returns null when no employee
+     * has this email.
+     */
+    public EmployeeResponse lookup(String email) {
+        PendingLookup lookup = new PendingLookup(email);
+        queue.add(lookup);
+        if (!running && queue.remove(lookup)) {
+            throw new IllegalStateException("Email lookup batcher is not running");
+        }
+        try {
+            return lookup.result.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Email lookup failed", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Email lookup batch did not complete in time");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an email lookup batch");
+        }
+    }
+
+    private void dispatch() {
+        while (running) {
+            Map<String, List<PendingLookup>> batch = new LinkedHashMap<>();
+            try {
+                PendingLookup first = queue.take();
+                batch.computeIfAbsent(first.email, key -> new ArrayList<>(1)).add(first);
+
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingLookup next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.computeIfAbsent(next.email, key -> new ArrayList<>(1)).add(next);
+                }
+                executor.execute(() -> resolve(batch));
+            } catch (InterruptedException | RejectedExecutionException e) {
+                fail(batch, new IllegalStateException("Email lookup batcher is shutting down"));
+                failQueued();
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                return;
+            } catch (Throwable e) {
+                fail(batch, e);
+                if (e instanceof Error) {
+                    running = false;
+                    failQueued();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private void resolve(Map<String, List<PendingLookup>> batch) {
+        try {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            List<EmployeeResponse> rows = transaction.execute(
+                    status -> employeeRepository.findResponsesByEmailIn(batch.keySet()));
+
+            Map<String, EmployeeResponse> byEmail = new HashMap<>();
+            for (EmployeeResponse row : rows) {
+                byEmail.put(row.getEmail(), row);
+            }
+            batch.forEach((email, lookups) -> {
+                EmployeeResponse row = byEmail.get(email);
+                lookups.forEach(lookup -> lookup.result.complete(row));
+            });
+        } catch (Throwable e) {
+            fail(batch, e);
+            if (e instanceof Error) {
+                throw e;
+            }
+        }
+    }
+
+    private void failQueued() {
+        List<PendingLookup> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        abandoned.forEach(lookup -> lookup.result.completeExceptionally(
+                new IllegalStateException("Email lookup batcher is shutting down")));
+    }
+
+    private static void fail(Map<String, List<PendingLookup>> batch, Throwable cause) {
+        batch.values().forEach(lookups -> lookups.forEach(lookup -> lookup.result.completeExceptionally(cause)));
+    }
+
+    private static final class PendingLookup {
+        private final String email;
+        private final CompletableFuture<EmployeeResponse> result = new CompletableFuture<>();
+
+        private PendingLookup(String email) {
+            this.email = email;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.assignment.employee.service;
+
+import com.assignment.employee.dto.BatchCreateResponse;
+import com.assignment.employee.dto.BatchItemResult;
+import com.assignment.employee.dto.CreateEmployeeRequest;
+import com.assignment.employee.entity.Employee;
+import com.assignment.employee.exception.InvalidRequestException;
+import com.assignment.employee.repository.EmployeeRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk creation of employees. Requests are validated individually and persisted in
+ * fixed-size chunks, each chunk in its own transaction so that JDBC insert batching
+ * applies and a failing item only affects its own result.
+ */
+@Service
+public class EmployeeBatchService {
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${employee.batch.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${employee.batch.max-size:10000}")
+    private int maxSize;
+
+    public BatchCreateResponse createEmployees(List<CreateEmployeeRequest> requests) {
+        if (requests.size() > maxSize) {
+            throw new InvalidRequestException("Batch size " + requests.size() + " exceeds the maximum of " + maxSize);
+        }
+
+        BatchItemResult[] results = new BatchItemResult[requests.size()];
+        Set<String> seenEmails = new HashSet<>();
+        List<IndexedRequest> chunk = new ArrayList<>(Math.min(chunkSize, requests.size()));
+
+        for (int i = 0; i < requests.size(); i++) {
+            CreateEmployeeRequest request = requests.get(i);
+            List<String> errors = validate(request);
+            if (!errors.isEmpty()) {
+                results[i] = BatchItemResult.failed(i, request == null ? null : request.getEmail(),
+                        BatchItemResult.Status.INVALID, errors);
+                continue;
+            }
+            if (!seenEmails.add(request.getEmail())) {
+                results[i] = duplicate(i, request.getEmail());
+                continue;
+            }
+            chunk.add(new IndexedRequest(i, request));
+            if (chunk.size() == chunkSize) {
+                persistChunk(chunk).forEach(result -> results[result.getIndex()] = result);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            persistChunk(chunk).forEach(result -> results[result.getIndex()] = result);
+        }
+
+        return new BatchCreateResponse(Arrays.asList(results));
+    }
+
+    /**
+     * Validates a request against the same constraints {@code @Valid} applies on the
+     * single-create endpoint, formatted the way GlobalExceptionHandler reports them.
+     */
+    public List<String> validate(CreateEmployeeRequest request) {
+        if (request == null) {
+            return List.of("request: must not be null");
+        }
+        Set<ConstraintViolation<CreateEmployeeRequest>> violations = validator.validate(request);
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Inserts one chunk in a single transaction. Emails that already exist are reported as
+     * duplicates up front; if the insert still hits the unique constraint (a concurrent
+     * writer won the race) the chunk is rolled back and retried item by item.
+     */
+    public List<BatchItemResult> persistChunk(List<IndexedRequest> chunk) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        try {
+            return transaction.execute(status -> insertChunk(chunk));
+        } catch (DataIntegrityViolationException ex) {
+            TransactionTemplate itemTransaction = new TransactionTemplate(transactionManager);
+            itemTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            List<BatchItemResult> results = new ArrayList<>(chunk.size());
+            for (IndexedRequest item : chunk) {
+                try {
+                    results.addAll(itemTransaction.execute(status -> insertChunk(List.of(item))));
+                } catch (DataIntegrityViolationException itemEx) {
+                    results.add(duplicate(item.index(), item.request().getEmail()));
+                }
+            }
+            return results;
+        }
+    }
+
+    private List<BatchItemResult> insertChunk(List<IndexedRequest> chunk) {
+        Set<String> existing = new HashSet<>(employeeRepository.findExistingEmails(
+                chunk.stream().map(item -> item.request().getEmail()).collect(Collectors.toList())));
+
+        List<BatchItemResult> results = new ArrayList<>(chunk.size());
+        List<IndexedRequest> inserted = new ArrayList<>(chunk.size());
+        List<Employee> employees = new ArrayList<>(chunk.size());
+        for (IndexedRequest item : chunk) {
+            CreateEmployeeRequest request = item.request();
+            if (existing.contains(request.getEmail())) {
+                results.add(duplicate(item.index(), request.getEmail()));
+                continue;
+            }
+            inserted.add(item);
+            employees.add(new Employee(request.getName(), request.getEmail(), request.getPhone()));
+        }
+
+        // flushed through the repository so that a unique-email violation arrives translated,
+        // as the DataIntegrityViolationException persistChunk falls back on
+        List<Employee> saved = employeeRepository.saveAllAndFlush(employees);
+        requestCoalescer.invalidate();
+        for (int i = 0; i < saved.size(); i++) {
+            results.add(BatchItemResult.created(inserted.get(i).index(), EmployeeService.mapToResponse(saved.get(i))));
+        }
+        entityManager.clear();
+        return results;
+    }
+
+    private static BatchItemResult duplicate(int index, String email) {
+        return BatchItemResult.failed(index, email, BatchItemResult.Status.DUPLICATE_EMAIL,
+                List.of("email: Employee already exists with email: " + email));
+    }
+
+    public record IndexedRequest(int index, CreateEmployeeRequest request) {
+    }
+}
@@ -0,0 +1,93 @@
+package com.assignment.employee.service;
+
+import com.assignment.employee.dto.CacheStatsResponse;
+import com.assignment.employee.dto.EmployeeResponse;
+import com.assignment.employee.entity.Employee;
+import com.assignment.employee.repository.EmployeeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, expiring read-through cache of {@link EmployeeResponse} keyed by email.
+ * <p>
+ * Entries live in a {@link WriteEpochCache}, so a read that raced with a write can never put
+ * the old row back after the write committed. Lookups made inside an existing transaction bypass the cache, since
+ * they may see uncommitted data.
+ */
+@Component
+public class EmployeeCache {
+    private final boolean enabled;
+    private final WriteEpochCache<EmployeeResponse> cache;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Value("${employee.cache.preload:false}")
+    private boolean preload;
+
+    @Value("${employee.cache.preload-size:1000}")
+    private int preloadSize;
+
+    public EmployeeCache(@Value("${employee.cache.enabled:true}") boolean enabled,
+                         @Value("${employee.cache.max-size:10000}") long maxSize,
+                         @Value("${employee.cache.ttl:10m}") Duration ttl) {
+        this.enabled = enabled;
+        this.cache = new WriteEpochCache<>(maxSize, ttl);
+    }
+
+    /**
+     * Returns the cached response for {@code email}, or runs {@code loader} and caches its
+     * result. A {@code null} result (not found) is passed through and not cached.
+     */
+    public EmployeeResponse get(String email, Supplier<EmployeeResponse> loader) {
+        if (!enabled || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return loader.get();
+        }
+        return cache.get(email, loader);
+    }
+
+    /**
+     * Returns the cached response for {@code email} without loading it, or null.
+     */
+    public EmployeeResponse peek(String email) {
+        if (!enabled || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return null;
+        }
+        return cache.getIfPresent(email);
+    }
+
+    public void invalidate(String email) {
+        if (!enabled) {
+            return;
+        }
+        cache.invalidate(email);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        if (!enabled || !preload) {
+            return;
+        }
+        long epoch = cache.epoch();
+        List<Employee> employees = employeeRepository.findPageOrderById(0L, Limit.of(preloadSize));
+        employees.forEach(employee ->
+                cache.putIfUnchangedSince(epoch, employee.getEmail(), EmployeeService.mapToResponse(employee)));
+    }
+
+    public CacheStatsResponse stats() {
+        return cache.stats(enabled);
+    }
+}
@@ -0,0 +1,87 @@
+package com.assignment.employee.service;
+
+import com.assignment.employee.entity.Employee;
+import com.assignment.employee.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset position for paging through employees. It records the sort order it was
+ * issued for and the key of the last row returned, so the next page can seek directly to
+ * the following row instead of counting past an offset.
+ */
+public final class EmployeeCursor {
+    public enum Sort {
+        ID("id"),
+        LAST_NAME("lastName");
+
+        private final String parameter;
+
+        Sort(String parameter) {
+            this.parameter = parameter;
+        }
+
+        public static Sort of(String parameter) {
+            for (Sort sort : values()) {
+                if (sort.parameter.equals(parameter)) {
+                    return sort;
+                }
+            }
+            throw new InvalidRequestException("Sorting is only supported on indexed columns: id, lastName");
+        }
+    }
+
+    private static final String SEPARATOR = "\n";
+
+    private final Sort sort;
+    private final long id;
+    private final String lastName;
+
+    private EmployeeCursor(Sort sort, long id, String lastName) {
+        this.sort = sort;
+        this.id = id;
+        this.lastName = lastName;
+    }
+
+    public static EmployeeCursor after(Sort sort, Employee employee) {
+        return new EmployeeCursor(sort, employee.getId(), employee.getLastName());
+    }
+
+    public static EmployeeCursor decode(String token, Sort expectedSort) {
+        EmployeeCursor cursor;
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(SEPARATOR, 3);
+            String lastName = parts.length < 3 || parts[2].isEmpty() ? null : parts[2].substring(1);
+            cursor = new EmployeeCursor(Sort.valueOf(parts[0]), Long.parseLong(parts[1]), lastName);
+        } catch (RuntimeException ex) {
+            throw new InvalidRequestException("Invalid cursor");
+        }
+        if (cursor.sort != expectedSort) {
+            throw new InvalidRequestException("Cursor was issued for a different sort order");
+        }
+        return cursor;
+    }
+
+    public String encode() {
+        String value = sort.name() + SEPARATOR + id;
+        if (sort == Sort.LAST_NAME) {
+            // "=" marks a present last name so that an empty one stays distinguishable from null
+            value += SEPARATOR + (lastName == null ? "" : "=" + lastName);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Sort getSort() {
+        return sort;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+}
@@ -0,0 +1,48 @@
+package com.assignment.employee.service;
+
+import com.assignment.employee.entity.Employee;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PersistContext;
+import org.hibernate.event.spi.PersistEvent;
+import org.hibernate.event.spi.PersistEventListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registers every new employee email with {@link EmailBloomFilter} when the employee is
+ * persisted, before the row is inserted, whichever code path saves it. It is added to
+ * Hibernate's event listeners once the EntityManagerFactory exists, so the entity itself
+ * does not know about the filter.
+ */
+@Component
+public class EmployeeEmailListener implements PersistEventListener {
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EmailBloomFilter emailBloomFilter;
+
+    @PostConstruct
+    void register() {
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .requireService(EventListenerRegistry.class)
+                .appendListeners(EventType.PERSIST, this);
+    }
+
+    @Override
+    public void onPersist(PersistEvent event) {
+        if (event.getObject() instanceof Employee employee) {
+            emailBloomFilter.put(employee.getEmail());
+        }
+    }
+
+    @Override
+    public void onPersist(PersistEvent event, PersistContext createdAlready) {
+        onPersist(event);
+    }
+}
@@ -0,0 +1,169 @@
+package com.assignment.employee.service;
+
+import com.assignment.employee.dto.EmployeeResponse;
+import com.assignment.employee.entity.Employee;
+import com.assignment.employee.exception.InvalidRequestException;
+import com.assignment.employee.repository.EmployeeRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Writes the whole employees table to a stream in id order. Rows come from a forward-only
+ * query and the persistence context is cleared periodically, so memory use is independent
+ * of the table size.
+ */
+@Service
+public class EmployeeExportService {
+    public enum Format {
+        NDJSON("application/x-ndjson"),
+        CSV("text/csv");
+
+        private final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public static Format of(String value) {
+            try {
+                return valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) {
+                throw new InvalidRequestException("Unsupported export format: " + value);
+            }
+        }
+    }
+
+    // columns outside the schema are skipped, but their serializers must still resolve
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .addModule(new JavaTimeModule())
+            .build();
+
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.builder()
+            .addColumn("id")
+            .addColumn("name")
+            .addColumn("lastName")
+            .addColumn("email")
+            .addColumn("phone")
+            .addColumn("address")
+            .build()
+            .withHeader();
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${employee.export.clear-interval:1000}")
+    private int clearInterval;
+
+    @Transactional(readOnly = true)
+    public long exportEmployees(OutputStream out, Format format) throws IOException {
+        try (Stream<Employee> employees = employeeRepository.streamAllOrderById();
+             RowWriter writer = format == Format.CSV ? new CsvRowWriter(out) : new NdjsonRowWriter(out)) {
+            long count = 0;
+            Iterator<Employee> iterator = employees.iterator();
+            while (iterator.hasNext()) {
+                writer.write(EmployeeService.mapToResponse(iterator.next()));
+                if (++count % clearInterval == 0) {
+                    entityManager.clear();
+                    writer.flush();
+                }
+            }
+            return count;
+        }
+    }
+
+    private interface RowWriter extends AutoCloseable {
+        void write(EmployeeResponse response) throws IOException;
+
+        void flush() throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    /**
+     * Rows reach the stream when the buffer fills or at the clear interval, not once per row.
+     */
+    private class NdjsonRowWriter implements RowWriter {
+        private final ObjectWriter rowWriter;
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(OutputStream out) throws IOException {
+            this.rowWriter = objectMapper.writerFor(EmployeeResponse.class)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            this.generator = rowWriter.createGenerator(out);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void write(EmployeeResponse response) throws IOException {
+            rowWriter.writeValue(generator, response);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    private static class CsvRowWriter implements RowWriter {
+        private final SequenceWriter writer;
+
+        CsvRowWriter(OutputStream out) throws IOException {
+            this.writer = CSV_MAPPER.writerFor(EmployeeResponse.class)
+                    .with(CSV_SCHEMA)
+                    .with(JsonGenerator.Feature.IGNORE_UNKNOWN)
+                    .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                    .writeValues(out);
+        }
+
+        @Override
+        public void write(EmployeeResponse response) throws IOException {
+            writer.write(response);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+}
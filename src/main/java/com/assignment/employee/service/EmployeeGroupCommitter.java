@@ -0,0 +1,184 @@
+package com.assignment.employee.service;
+
+import com.assignment.employee.dto.BatchItemResult;
+import com.assignment.employee.dto.CreateEmployeeRequest;
+import com.assignment.employee.dto.EmployeeResponse;
+import com.assignment.employee.exception.DuplicateEmailException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Optional group commit for single creates. Callers enqueue their request and wait; a committer
+ * thread gathers the creates that arrive within {@code linger} (up to {@code max-size}) and
+ * inserts them as one chunk through {@link EmployeeBatchService#persistChunk}, i.e. one
+ * transaction and one JDBC batch. Every caller is released only after that commit, with its own
+ * employee or its own {@link DuplicateEmailException}, including one whose email was taken by a
+ * concurrent writer after the batch's existence check. While a group commits, the next one fills.
+ * <p>
+ * Callers give up after {@code timeout}; a create abandoned that way may still be committed with
+ * its group.
+ */
+@Component
+public class EmployeeGroupCommitter {
+    private final boolean enabled;
+    private final long lingerNanos;
+    private final int maxSize;
+    private final long timeoutNanos;
+    private final BlockingQueue<PendingCreate> queue = new LinkedBlockingQueue<>();
+
+    private Thread committer;
+    private volatile boolean running;
+
+    @Autowired
+    private EmployeeBatchService employeeBatchService;
+
+    public EmployeeGroupCommitter(@Value("${employee.group-commit.enabled:false}") boolean enabled,
+                                  @Value("${employee.group-commit.linger:2ms}") Duration linger,
+                                  @Value("${employee.group-commit.max-size:64}") int maxSize,
+                                  @Value("${employee.group-commit.timeout:5s}") Duration timeout) {
+        this.enabled = enabled;
+        this.lingerNanos = linger.toNanos();
+        this.maxSize = maxSize;
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        committer = new Thread(this::commitLoop, "employee-group-commit");
+        committer.setDaemon(true);
+        committer.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        committer.interrupt();
+        failQueued();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues the create and blocks until the group it joined has committed.
+     */
+    public EmployeeResponse create(CreateEmployeeRequest request) {
+        PendingCreate create = new PendingCreate(request);
+        queue.add(create);
+        if (!running && queue.remove(create)) {
+            throw new IllegalStateException("Employee group commit is not running");
+        }
+        try {
+            return create.result.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Employee group commit failed", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Employee group commit did not complete in time");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an employee group commit");
+        }
+    }
+
+    /**
+     * Every create taken from the queue is completed, also when the thread is interrupted while
+     * gathering; a group that fails, even with an Error, fails only its own callers.
+     */
+    private void commitLoop() {
+        while (running) {
+            List<PendingCreate> group = new ArrayList<>();
+            try {
+                group.add(queue.take());
+                long deadline = System.nanoTime() + lingerNanos;
+                while (group.size() < maxSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingCreate next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    group.add(next);
+                }
+                commit(group);
+            } catch (InterruptedException e) {
+                fail(group, new IllegalStateException("Employee group commit is shutting down"));
+                failQueued();
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Throwable e) {
+                fail(group, e);
+            }
+        }
+    }
+
+    /**
+     * Within a group the first create for an email wins; later ones fail as duplicates without
+     * reaching the database, the same way a batch request treats repeated emails.
+     */
+    private void commit(List<PendingCreate> group) {
+        List<EmployeeBatchService.IndexedRequest> chunk = new ArrayList<>(group.size());
+        Set<String> emails = new HashSet<>();
+        for (int i = 0; i < group.size(); i++) {
+            CreateEmployeeRequest request = group.get(i).request;
+            if (emails.add(request.getEmail())) {
+                chunk.add(new EmployeeBatchService.IndexedRequest(i, request));
+            } else {
+                group.get(i).result.completeExceptionally(new DuplicateEmailException(request.getEmail()));
+            }
+        }
+
+        try {
+            for (BatchItemResult result : employeeBatchService.persistChunk(chunk)) {
+                CompletableFuture<EmployeeResponse> caller = group.get(result.getIndex()).result;
+                if (result.getStatus() == BatchItemResult.Status.CREATED) {
+                    caller.complete(result.getEmployee());
+                } else {
+                    caller.completeExceptionally(new DuplicateEmailException(result.getEmail()));
+                }
+            }
+        } catch (Throwable e) {
+            fail(group, e);
+        }
+        // a create the results did not mention must not wait forever
+        fail(group, new IllegalStateException("Employee group commit returned no result"));
+    }
+
+    private void failQueued() {
+        List<PendingCreate> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        fail(abandoned, new IllegalStateException("Employee group commit is shutting down"));
+    }
+
+    /**
+     * Completes the creates that are still waiting; those already completed keep their outcome.
+     */
+    private static void fail(List<PendingCreate> creates, Throwable cause) {
+        creates.forEach(create -> create.result.completeExceptionally(cause));
+    }
+
+    private static final class PendingCreate {
+        private final CreateEmployeeRequest request;
+        private final CompletableFuture<EmployeeResponse> result = new CompletableFuture<>();
+
+        private PendingCreate(CreateEmployeeRequest request) {
+            this.request = request;
+        }
+    }
+}
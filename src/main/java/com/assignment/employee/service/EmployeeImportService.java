@@ -0,0 +1,221 @@
+package com.assignment.employee.service;
+
+import com.assignment.employee.dto.BatchItemResult;
+import com.assignment.employee.dto.CreateEmployeeRequest;
+import com.assignment.employee.dto.ImportRejection;
+import com.assignment.employee.dto.ImportResponse;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Streams NDJSON or CSV employee files into the database. Records are read one at a time,
+ * validated like {@link CreateEmployeeRequest} and committed in fixed-size chunks through
+ * {@link EmployeeBatchService}, so heap use does not depend on the size of the file.
+ */
+@Service
+public class EmployeeImportService {
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private static final int MAX_TRACKED_IMPORTS = 1000;
+
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+
+    @Autowired
+    private EmployeeBatchService employeeBatchService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${employee.import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${employee.import.max-reported-rejections:1000}")
+    private int maxReportedRejections;
+
+    private final Map<String, Long> checkpoints = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                    return size() > MAX_TRACKED_IMPORTS;
+                }
+            });
+
+    /**
+     * Imports the body and reports what happened. Lines up to {@code resumeAfterLine} are
+     * skipped; when it is absent and {@code importId} names an earlier run, the import
+     * resumes after that run's last committed chunk.
+     */
+    public ImportResponse importEmployees(InputStream body, MediaType contentType, String importId,
+                                          Long resumeAfterLine) throws IOException {
+        long resumeFrom = resumeAfterLine != null ? resumeAfterLine
+                : importId != null ? checkpoints.getOrDefault(importId, 0L) : 0L;
+        boolean csv = TEXT_CSV.isCompatibleWith(contentType);
+        ImportRun run = new ImportRun(importId, csv ? "csv" : "ndjson", resumeFrom);
+
+        if (csv) {
+            readCsv(body, run);
+        } else {
+            readNdjson(body, run);
+        }
+        return run.finish();
+    }
+
+    private void readNdjson(InputStream body, ImportRun run) throws IOException {
+        ObjectReader reader = objectMapper.readerFor(CreateEmployeeRequest.class);
+        try (BufferedReader lines = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNumber = 0;
+            while ((line = lines.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber <= run.resumeAfterLine || line.isBlank()) {
+                    continue;
+                }
+                CreateEmployeeRequest request;
+                try {
+                    request = reader.readValue(line);
+                } catch (JsonProcessingException ex) {
+                    run.reject(lineNumber, null, List.of("line: Malformed JSON - " + ex.getOriginalMessage()));
+                    continue;
+                }
+                run.accept(lineNumber, request);
+            }
+        }
+    }
+
+    private void readCsv(InputStream body, ImportRun run) throws IOException {
+        ObjectReader reader = CSV_MAPPER.readerFor(CreateEmployeeRequest.class)
+                .with(CsvSchema.emptySchema().withHeader())
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        try (MappingIterator<CreateEmployeeRequest> rows = reader.readValues(body)) {
+            long failedAt = -1;
+            while (true) {
+                long lineNumber = 0;
+                CreateEmployeeRequest request;
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    lineNumber = rows.getParser().currentLocation().getLineNr();
+                    request = rows.nextValue();
+                } catch (JsonProcessingException ex) {
+                    // the parser resumes at the next row; stop if it cannot get past this one
+                    JsonLocation location = rows.getParser().currentLocation();
+                    long line = lineNumber > 0 ? lineNumber : location.getLineNr();
+                    if (line > run.resumeAfterLine) {
+                        run.reject(line, null, List.of("line: Malformed CSV row - " + ex.getOriginalMessage()));
+                    }
+                    if (location.getCharOffset() == failedAt) {
+                        break;
+                    }
+                    failedAt = location.getCharOffset();
+                    continue;
+                }
+                if (lineNumber <= run.resumeAfterLine) {
+                    continue;
+                }
+                run.accept(lineNumber, request);
+            }
+        }
+    }
+
+    private class ImportRun {
+        private final ImportResponse response = new ImportResponse();
+        private final long resumeAfterLine;
+        private final long startNanos = System.nanoTime();
+        private final List<EmployeeBatchService.IndexedRequest> chunk = new ArrayList<>(chunkSize);
+        private final long[] chunkLines = new long[chunkSize];
+        private final Set<String> chunkEmails = new HashSet<>();
+        private long lastLine;
+
+        ImportRun(String importId, String format, long resumeAfterLine) {
+            this.resumeAfterLine = resumeAfterLine;
+            this.lastLine = resumeAfterLine;
+            response.setImportId(importId);
+            response.setFormat(format);
+            response.setResumedAfterLine(resumeAfterLine);
+            response.setLastCommittedLine(resumeAfterLine);
+        }
+
+        void accept(long line, CreateEmployeeRequest request) {
+            response.setLinesRead(response.getLinesRead() + 1);
+            lastLine = line;
+            if (request == null) {
+                rejectRead(line, null, List.of("line: Expected an employee record"));
+                return;
+            }
+            List<String> errors = employeeBatchService.validate(request);
+            if (!errors.isEmpty()) {
+                rejectRead(line, request.getEmail(), errors);
+                return;
+            }
+            if (!chunkEmails.add(request.getEmail())) {
+                rejectRead(line, request.getEmail(),
+                        List.of("email: Employee already exists with email: " + request.getEmail()));
+                return;
+            }
+            chunkLines[chunk.size()] = line;
+            chunk.add(new EmployeeBatchService.IndexedRequest(chunk.size(), request));
+            if (chunk.size() == chunkSize) {
+                commitChunk();
+            }
+        }
+
+        void reject(long line, String email, List<String> errors) {
+            response.setLinesRead(response.getLinesRead() + 1);
+            lastLine = line;
+            rejectRead(line, email, errors);
+        }
+
+        private void rejectRead(long line, String email, List<String> errors) {
+            response.setRejected(response.getRejected() + 1);
+            if (response.getRejections().size() < maxReportedRejections) {
+                response.getRejections().add(new ImportRejection(line, email, errors));
+            } else {
+                response.setRejectionsTruncated(true);
+            }
+        }
+
+        private void commitChunk() {
+            if (!chunk.isEmpty()) {
+                for (BatchItemResult result : employeeBatchService.persistChunk(chunk)) {
+                    if (result.getStatus() == BatchItemResult.Status.CREATED) {
+                        response.setImported(response.getImported() + 1);
+                    } else {
+                        rejectRead(chunkLines[result.getIndex()], result.getEmail(), result.getErrors());
+                    }
+                }
+                chunk.clear();
+                chunkEmails.clear();
+            }
+            response.setLastCommittedLine(lastLine);
+            if (response.getImportId() != null) {
+                checkpoints.put(response.getImportId(), lastLine);
+            }
+        }
+
+        ImportResponse finish() {
+            commitChunk();
+            long elapsedNanos = System.nanoTime() - startNanos;
+            response.setElapsedMillis(elapsedNanos / 1_000_000);
+            response.setRowsPerSecond(elapsedNanos == 0 ? 0 : response.getLinesRead() * 1_000_000_000.0 / elapsedNanos);
+            return response;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.assignment.employee.service;
+
+import com.assignment.employee.dto.CacheStatsResponse;
+import com.assignment.employee.dto.EmployeeResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, expiring cache of the encoded JSON of {@link EmployeeResponse} keyed by email, so a
+ * hot employee is serialised once rather than on every request. The bytes come from the
+ * application's {@link ObjectMapper} and are identical to what the message converter writes.
+ * <p>
+ * Invalidation is the same as for {@link EmployeeCache}, through a {@link WriteEpochCache}: an
+ * encoding is only cached if no write happened while it was being loaded. Off unless
+ * {@code employee.json-cache.enabled}.
+ */
+@Component
+public class EmployeeJsonCache {
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final WriteEpochCache<Entry> cache;
+
+    public EmployeeJsonCache(ObjectMapper objectMapper,
+                             @Value("${employee.json-cache.enabled:false}") boolean enabled,
+                             @Value("${employee.json-cache.max-size:10000}") long maxSize,
+                             @Value("${employee.json-cache.ttl:10m}") Duration ttl) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.cache = new WriteEpochCache<>(maxSize, ttl);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the cached encoding for {@code email}, or runs {@code loader}, encodes its result
+     * and caches it. Exceptions from the loader (not found) propagate and nothing is cached.
+     */
+    public Entry get(String email, Supplier<EmployeeResponse> loader) {
+        if (!enabled || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return encode(loader.get());
+        }
+        return cache.get(email, () -> encode(loader.get()));
+    }
+
+    public void invalidate(String email) {
+        if (!enabled) {
+            return;
+        }
+        cache.invalidate(email);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStatsResponse stats() {
+        return cache.stats(enabled);
+    }
+
+    private Entry encode(EmployeeResponse response) {
+        try {
+            return new Entry(objectMapper.writeValueAsBytes(response), response.getVersion(), response.getUpdatedAt());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode employee " + response.getEmail(), e);
+        }
+    }
+
+    /**
+     * The UTF-8 JSON of one employee with the version and timestamp its validators are built from.
+     * The array is shared between requests and must not be modified.
+     */
+    public static final class Entry {
+        private final byte[] json;
+        private final Long version;
+        private final Instant updatedAt;
+
+        public Entry(byte[] json, Long version, Instant updatedAt) {
+            this.json = json;
+            this.version = version;
+            this.updatedAt = updatedAt;
+        }
+
+        public byte[] getJson() {
+            return json;
+        }
+
+        public Long getVersion() {
+            return version;
+        }
+
+        public Instant getUpdatedAt() {
+            return updatedAt;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.assignment.employee.service;
+
+import com.assignment.employee.dto.EmployeeLookupRequest;
+import com.assignment.employee.dto.EmployeeLookupResponse;
+import com.assignment.employee.dto.EmployeeResponse;
+import com.assignment.employee.exception.InvalidRequestException;
+import com.assignment.employee.repository.EmployeeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Resolves many emails or names at once with chunked IN queries instead of one query per key.
+ * With IN-clause parameter padding enabled, each chunk binds a power-of-two number of
+ * parameters, so only a handful of distinct statements reach the query plan cache.
+ */
+@Service
+public class EmployeeLookupService {
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Value("${employee.lookup.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${employee.lookup.max-size:5000}")
+    private int maxSize;
+
+    /**
+     * Returns the employees found, in the order their keys were requested, and the keys that
+     * matched nothing. Duplicate and blank keys are ignored. A name may match several employees.
+     */
+    @Transactional(readOnly = true)
+    public EmployeeLookupResponse lookupEmployees(EmployeeLookupRequest request) {
+        boolean byEmail = request.getEmails() != null && !request.getEmails().isEmpty();
+        boolean byName = request.getNames() != null && !request.getNames().isEmpty();
+        if (byEmail == byName) {
+            throw new InvalidRequestException("Provide either emails or names to look up");
+        }
+        List<String> keys = byEmail ? request.getEmails() : request.getNames();
+        if (keys.size() > maxSize) {
+            throw new InvalidRequestException("Lookup size " + keys.size() + " exceeds the maximum of " + maxSize);
+        }
+
+        Set<String> distinct = new LinkedHashSet<>();
+        for (String key : keys) {
+            if (key != null && !key.isBlank()) {
+                distinct.add(key);
+            }
+        }
+        return byEmail
+                ? resolve(distinct, employeeRepository::findResponsesByEmailIn, EmployeeResponse::getEmail)
+                : resolve(distinct, employeeRepository::findResponsesByNameIn, EmployeeResponse::getName);
+    }
+
+    private EmployeeLookupResponse resolve(Set<String> keys,
+                                           Function<Collection<String>, List<EmployeeResponse>> query,
+                                           Function<EmployeeResponse, String> keyOf) {
+        Map<String, List<EmployeeResponse>> matches = new HashMap<>();
+        List<String> chunk = new ArrayList<>(Math.min(chunkSize, keys.size()));
+        for (String key : keys) {
+            chunk.add(key);
+            if (chunk.size() == chunkSize) {
+                collect(query.apply(chunk), keyOf, matches);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            collect(query.apply(chunk), keyOf, matches);
+        }
+
+        List<EmployeeResponse> found = new ArrayList<>(keys.size());
+        List<String> missing = new ArrayList<>();
+        for (String key : keys) {
+            List<EmployeeResponse> employees = matches.get(key);
+            if (employees == null) {
+                missing.add(key);
+            } else {
+                found.addAll(employees);
+            }
+        }
+        return new EmployeeLookupResponse(found, missing);
+    }
+
+    private static void collect(List<EmployeeResponse> rows, Function<EmployeeResponse, String> keyOf,
+                                Map<String, List<EmployeeResponse>> matches) {
+        for (EmployeeResponse row : rows) {
+            matches.computeIfAbsent(keyOf.apply(row), key -> new ArrayList<>(1)).add(row);
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package com.assignment.employee.service;
+
+import com.assignment.employee.dto.RoutingStatsResponse;
+import com.assignment.employee.dto.RoutingStrategyStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Picks the lookup strategy for strategy-neutral email lookups. The latency of every database
+ * load is recorded in a per-strategy histogram whose weights halve every {@code half-life}, so
+ * old measurements fade out as the data or the database changes. Loads go to the strategy with
+ * the lowest decayed median, except for an {@code exploration} share spread over the others,
+ * which keeps their histograms current. Until every strategy has been measured
+ * {@code min-samples} times, loads go to the least measured one. After that cold start the others
+ * only get the exploration share, and exploring loads go to one of them whose recent weight has
+ * decayed below {@code min-samples}, if any; while one has, the preferred strategy is kept.
+ */
+@Component
+public class EmployeeQueryRouter {
+    private static final long EVALUATION_INTERVAL_NANOS = Duration.ofMillis(100).toNanos();
+    private static final ThreadLocal<Strategy> ROUTED = new ThreadLocal<>();
+
+    public enum Strategy {
+        SPECIFICATIONS("specifications"), HQL("hql"), NATIVE("native");
+
+        private final String name;
+
+        Strategy(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    private final double exploration;
+    private final int minSamples;
+    private final LongSupplier nanoClock;
+    private final Map<Strategy, DecayingHistogram> histograms = new EnumMap<>(Strategy.class);
+    private final Map<Strategy, LongAdder> routed = new EnumMap<>(Strategy.class);
+    private final AtomicLong switches = new AtomicLong();
+    private final AtomicLong nextEvaluation = new AtomicLong();
+
+    private volatile Strategy preferred = Strategy.HQL;
+    private volatile boolean warmedUp;
+
+    @Autowired
+    public EmployeeQueryRouter(@Value("${employee.routing.exploration:0.05}") double exploration,
+                               @Value("${employee.routing.half-life:30s}") Duration halfLife,
+                               @Value("${employee.routing.min-samples:20}") int minSamples) {
+        this(exploration, halfLife, minSamples, System::nanoTime);
+    }
+
+    EmployeeQueryRouter(double exploration, Duration halfLife, int minSamples, LongSupplier nanoClock) {
+        if (exploration < 0 || exploration > 1) {
+            throw new IllegalArgumentException("employee.routing.exploration must be between 0 and 1");
+        }
+        this.exploration = exploration;
+        this.minSamples = minSamples;
+        this.nanoClock = nanoClock;
+        for (Strategy strategy : Strategy.values()) {
+            histograms.put(strategy, new DecayingHistogram(halfLife.toNanos(), nanoClock.getAsLong()));
+            routed.put(strategy, new LongAdder());
+        }
+    }
+
+    public Strategy choose() {
+        Strategy choice = preferred;
+        Strategy leastSampled = warmedUp ? null : leastSampled();
+        if (leastSampled != null) {
+            choice = leastSampled;
+        } else if (ThreadLocalRandom.current().nextDouble() < exploration) {
+            Strategy leastMeasured = leastMeasured(choice);
+            if (leastMeasured != null) {
+                choice = leastMeasured;
+            } else {
+                Strategy[] strategies = Strategy.values();
+                int other = ThreadLocalRandom.current().nextInt(strategies.length - 1);
+                choice = strategies[other >= choice.ordinal() ? other + 1 : other];
+            }
+        }
+        routed.get(choice).increment();
+        ROUTED.set(choice);
+        return choice;
+    }
+
+    /**
+     * Returns and forgets the strategy the last {@link #choose()} on this thread picked, or null,
+     * so that {@link EmployeeServiceMetrics} can tag a strategy-neutral call with it.
+     */
+    static Strategy takeRouted() {
+        Strategy choice = ROUTED.get();
+        if (choice != null) {
+            ROUTED.remove();
+        }
+        return choice;
+    }
+
+    /**
+     * Runs the load and records its latency against the strategy; failed loads are not recorded.
+     */
+    public <T> T time(Strategy strategy, Supplier<T> load) {
+        long start = nanoClock.getAsLong();
+        T result = load.get();
+        record(strategy, nanoClock.getAsLong() - start);
+        return result;
+    }
+
+    void record(Strategy strategy, long nanos) {
+        long now = nanoClock.getAsLong();
+        histograms.get(strategy).add(nanos, now);
+        long next = nextEvaluation.get();
+        if (now - next >= 0 && nextEvaluation.compareAndSet(next, now + EVALUATION_INTERVAL_NANOS)) {
+            evaluate(now);
+        }
+    }
+
+    Strategy getPreferred() {
+        return preferred;
+    }
+
+    public RoutingStatsResponse stats() {
+        long now = nanoClock.getAsLong();
+        List<RoutingStrategyStats> strategies = new ArrayList<>();
+        for (Strategy strategy : Strategy.values()) {
+            DecayingHistogram histogram = histograms.get(strategy);
+            RoutingStrategyStats stats = new RoutingStrategyStats();
+            stats.setStrategy(strategy.getName());
+            stats.setRouted(routed.get(strategy).sum());
+            synchronized (histogram) {
+                stats.setWeight(histogram.weight(now));
+                stats.setP50Millis(histogram.percentileNanos(0.50, now) / 1e6);
+                stats.setP99Millis(histogram.percentileNanos(0.99, now) / 1e6);
+            }
+            strategies.add(stats);
+        }
+        RoutingStatsResponse response = new RoutingStatsResponse();
+        response.setPreferred(preferred.getName());
+        response.setExploration(exploration);
+        response.setSwitches(switches.get());
+        response.setStrategies(strategies);
+        return response;
+    }
+
+    /**
+     * Returns the strategy with the fewest samples below {@code min-samples}, or null (and the
+     * cold start is over) when all have enough.
+     */
+    private Strategy leastSampled() {
+        Strategy least = null;
+        long leastCount = minSamples;
+        for (Strategy strategy : Strategy.values()) {
+            long count = histograms.get(strategy).count();
+            if (count < leastCount) {
+                least = strategy;
+                leastCount = count;
+            }
+        }
+        if (least == null) {
+            warmedUp = true;
+        }
+        return least;
+    }
+
+    /**
+     * Returns the strategy other than {@code excluded} with the least recent weight below
+     * {@code min-samples}, or null when all have enough.
+     */
+    private Strategy leastMeasured(Strategy excluded) {
+        long now = nanoClock.getAsLong();
+        Strategy least = null;
+        double leastWeight = minSamples;
+        for (Strategy strategy : Strategy.values()) {
+            if (strategy == excluded) {
+                continue;
+            }
+            double weight = histograms.get(strategy).weight(now);
+            if (weight < leastWeight) {
+                least = strategy;
+                leastWeight = weight;
+            }
+        }
+        return least;
+    }
+
+    private void evaluate(long now) {
+        Strategy best = null;
+        double bestMedian = Double.MAX_VALUE;
+        for (Strategy strategy : Strategy.values()) {
+            DecayingHistogram histogram = histograms.get(strategy);
+            synchronized (histogram) {
+                if (histogram.weight(now) < minSamples) {
+                    return;
+                }
+                double median = histogram.percentileNanos(0.50, now);
+                if (median < bestMedian) {
+                    best = strategy;
+                    bestMedian = median;
+                }
+            }
+        }
+        if (best != preferred) {
+            preferred = best;
+            switches.incrementAndGet();
+        }
+    }
+
+    /**
+     * Log-scale latency histogram from 1 µs to about 17 s, four buckets per doubling. Instead of
+     * decaying every bucket on every sample, new samples are weighted up by 2^(age / half-life)
+     * and the whole histogram is rescaled once that weight grows large.
+     */
+    static final class DecayingHistogram {
+        private static final int BUCKETS_PER_DOUBLING = 4;
+        private static final int BUCKETS = 24 * BUCKETS_PER_DOUBLING;
+        private static final double RESCALE_THRESHOLD = 1e12;
+
+        private final double halfLifeNanos;
+        private final double[] buckets = new double[BUCKETS];
+        private long landmark;
+        private double total;
+        private long count;
+
+        DecayingHistogram(long halfLifeNanos, long now) {
+            this.halfLifeNanos = halfLifeNanos;
+            this.landmark = now;
+        }
+
+        synchronized void add(long nanos, long now) {
+            double weight = scale(now);
+            if (weight > RESCALE_THRESHOLD) {
+                for (int i = 0; i < BUCKETS; i++) {
+                    buckets[i] /= weight;
+                }
+                total /= weight;
+                landmark = now;
+                weight = 1;
+            }
+            buckets[bucketOf(nanos)] += weight;
+            total += weight;
+            count++;
+        }
+
+        /**
+         * Number of samples ever added, without decay.
+         */
+        synchronized long count() {
+            return count;
+        }
+
+        /**
+         * Sum of the decayed sample weights, i.e. roughly how many samples of one half-life ago
+         * and newer are in the histogram.
+         */
+        synchronized double weight(long now) {
+            return total / scale(now);
+        }
+
+        synchronized double percentileNanos(double percentile, long now) {
+            if (total == 0) {
+                return 0;
+            }
+            double target = percentile * total;
+            double seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets[i];
+                if (seen >= target) {
+                    return upperBoundNanos(i);
+                }
+            }
+            return upperBoundNanos(BUCKETS - 1);
+        }
+
+        private double scale(long now) {
+            return Math.pow(2, (now - landmark) / halfLifeNanos);
+        }
+
+        private static int bucketOf(long nanos) {
+            if (nanos <= 1_000) {
+                return 0;
+            }
+            int bucket = (int) Math.ceil(Math.log(nanos / 1_000.0) / Math.log(2) * BUCKETS_PER_DOUBLING);
+            return Math.min(bucket, BUCKETS - 1);
+        }
+
+        private static double upperBoundNanos(int bucket) {
+            return 1_000 * Math.pow(2, (double) bucket / BUCKETS_PER_DOUBLING);
+        }
+    }
+}
@@ -1,16 +1,35 @@
 package com.assignment.employee.service;
 
 import com.assignment.employee.dto.CreateEmployeeRequest;
+import com.assignment.employee.dto.EmployeePageResponse;
 import com.assignment.employee.dto.EmployeeResponse;
+import com.assignment.employee.dto.EmployeeVersion;
 import com.assignment.employee.dto.UpdateEmployeeRequest;
 import com.assignment.employee.dto.UpdatePhoneRequest;
 import com.assignment.employee.entity.Employee;
+import com.assignment.employee.exception.DuplicateEmailException;
+import com.assignment.employee.exception.EmployeeNotFoundException;
+import com.assignment.employee.exception.InvalidRequestException;
+import com.assignment.employee.exception.VersionConflictException;
 import com.assignment.employee.repository.EmployeeRepository;
 import com.assignment.employee.repository.EmployeeSpecifications;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -18,85 +37,300 @@ public class EmployeeService {
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private EmployeeCache employeeCache;
+
+    @Autowired
+    private EmployeeJsonCache employeeJsonCache;
+
+    @Autowired
+    private EmailBloomFilter emailBloomFilter;
+
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
+    @Autowired
+    private EmailLookupBatcher emailLookupBatcher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private PhoneWriteBehindBuffer phoneWriteBehindBuffer;
+
+    @Autowired
+    private EmployeeGroupCommitter employeeGroupCommitter;
+
+    @Autowired
+    private EmployeeQueryRouter employeeQueryRouter;
+
+    @Value("${employee.page.max-size:200}")
+    private int maxPageSize;
+
+    /**
+     * Creates one employee, through the group committer when it is enabled and the caller has no
+     * transaction of its own. A taken email fails with {@link DuplicateEmailException}.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public EmployeeResponse createEmployee(CreateEmployeeRequest request) {
+        if (employeeGroupCommitter.isEnabled() && !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return employeeGroupCommitter.create(request);
+        }
         Employee employee = new Employee(request.getName(), request.getEmail(), request.getPhone());
-        Employee saved = employeeRepository.save(employee);
+        Employee saved;
+        try {
+            saved = employeeRepository.save(employee);
+        } catch (DataIntegrityViolationException e) {
+            if (employeeRepository.existsByEmail(request.getEmail())) {
+                throw new DuplicateEmailException(request.getEmail());
+            }
+            throw e;
+        }
+        requestCoalescer.invalidate();
         return mapToResponse(saved);
     }
 
+    /**
+     * Strategy-neutral lookup: cache hits and filtered misses are answered as usual, and a
+     * database load runs on the strategy the router currently picks.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public EmployeeResponse getEmployeeByEmail(String email) {
+        return lookupByEmail("adaptive", email, () -> {
+            EmployeeQueryRouter.Strategy strategy = employeeQueryRouter.choose();
+            return employeeQueryRouter.time(strategy, () -> loadByEmail(strategy, email));
+        });
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
     public EmployeeResponse getEmployeeByEmailUsingSpecifications(String email) {
-        Specification<Employee> spec = EmployeeSpecifications.hasEmail(email);
-        Employee employee = employeeRepository.findOne(spec)
-                .orElseThrow(() -> new RuntimeException("Employee not found with email: " + email));
-        return mapToResponse(employee);
+        return lookupByEmail("specifications", email, () -> loadByEmail(EmployeeQueryRouter.Strategy.SPECIFICATIONS, email));
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public EmployeeResponse getEmployeeByEmailUsingHQL(String email) {
-        Employee employee = employeeRepository.findByEmailUsingHQL(email)
-                .orElseThrow(() -> new RuntimeException("Employee not found with email: " + email));
-        return mapToResponse(employee);
+        return lookupByEmail("hql", email, () -> loadByEmail(EmployeeQueryRouter.Strategy.HQL, email));
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public EmployeeResponse getEmployeeByEmailUsingNativeSQL(String email) {
-        Employee employee = employeeRepository.findByEmailUsingNativeSQL(email)
-                .orElseThrow(() -> new RuntimeException("Employee not found with email: " + email));
-        return mapToResponse(employee);
+        return lookupByEmail("native", email, () -> loadByEmail(EmployeeQueryRouter.Strategy.NATIVE, email));
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public EmployeeResponse getEmployeeByEmailUsingNaturalId(String email) {
+        return lookupByEmail("naturalid", email, () -> readOnly(() -> employeeRepository.findByEmailUsingNaturalId(email)
+                .map(EmployeeService::mapToResponse)));
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public EmployeeResponse getEmployeeByNameUsingSpecifications(String name) {
         Specification<Employee> spec = EmployeeSpecifications.hasName(name);
-        Employee employee = employeeRepository.findOne(spec)
-                .orElseThrow(() -> new RuntimeException("Employee not found with name: " + name));
-        return mapToResponse(employee);
+        return lookupByName("specifications", name, () -> employeeRepository.findResponse(spec));
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public EmployeeResponse getEmployeeByNameUsingHQL(String name) {
-        Employee employee = employeeRepository.findByNameUsingHQL(name)
-                .orElseThrow(() -> new RuntimeException("Employee not found with name: " + name));
-        return mapToResponse(employee);
+        return lookupByName("hql", name, () -> employeeRepository.findResponseByNameUsingHQL(name));
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public EmployeeResponse getEmployeeByNameUsingNativeSQL(String name) {
-        Employee employee = employeeRepository.findByNameUsingNativeSQL(name)
-                .orElseThrow(() -> new RuntimeException("Employee not found with name: " + name));
-        return mapToResponse(employee);
+        return lookupByName("native", name, () -> employeeRepository.findResponseByNameUsingNativeSQL(name));
+    }
+
+    /**
+     * Current version of the employee, for answering conditional GETs without building the
+     * full response: taken from the lookup cache when present, otherwise from a two-column read.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<EmployeeVersion> findVersionByEmail(String email) {
+        EmployeeResponse cached = employeeCache.peek(email);
+        if (cached != null) {
+            return Optional.of(new EmployeeVersion(cached.getVersion(), cached.getUpdatedAt()));
+        }
+        return readOnlyTransaction().execute(status -> employeeRepository.findVersionByEmail(email));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<EmployeeVersion> findVersionByName(String name) {
+        return employeeRepository.findVersionByName(name);
     }
 
-    public EmployeeResponse updateEmployee(String email, UpdateEmployeeRequest request) {
-        Employee employee = employeeRepository.findByEmailUsingHQL(email)
-                .orElseThrow(() -> new RuntimeException("Employee not found with email: " + email));
+    /**
+     * Returns the page that follows {@code cursor} (or the first page when it is null) using a
+     * keyset seek on the sort columns. One extra row is fetched to decide whether a next page
+     * exists, so no COUNT query is needed.
+     */
+    @Transactional(readOnly = true)
+    public EmployeePageResponse listEmployees(String sort, int size, String cursor) {
+        if (size < 1 || size > maxPageSize) {
+            throw new InvalidRequestException("Page size must be between 1 and " + maxPageSize);
+        }
+        EmployeeCursor.Sort order = EmployeeCursor.Sort.of(sort);
+        EmployeeCursor after = cursor == null ? null : EmployeeCursor.decode(cursor, order);
+        Limit limit = Limit.of(size + 1);
+
+        List<Employee> rows;
+        if (order == EmployeeCursor.Sort.ID) {
+            rows = employeeRepository.findPageOrderById(after == null ? 0L : after.getId(), limit);
+        } else if (after == null) {
+            rows = employeeRepository.findFirstPageOrderByLastName(limit);
+        } else if (after.getLastName() == null) {
+            // the rest of the NULL last names, then the named employees from the start
+            rows = new ArrayList<>(employeeRepository.findPageAfterNullLastName(after.getId(), limit));
+            if (rows.size() < limit.max()) {
+                rows.addAll(employeeRepository.findFirstPageWithLastName(Limit.of(limit.max() - rows.size())));
+            }
+        } else {
+            rows = employeeRepository.findPageAfterLastName(after.getLastName(), after.getId(), limit);
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<Employee> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? EmployeeCursor.after(order, page.get(size - 1)).encode() : null;
+        return new EmployeePageResponse(
+                page.stream().map(EmployeeService::mapToResponse).collect(Collectors.toList()),
+                nextCursor);
+    }
 
-        if (request.getLastName() != null) {
-            employee.setLastName(request.getLastName());
+    /**
+     * Applies the non-null fields with one UPDATE statement; the affected-row count tells
+     * whether the write went through, and the response is read back as a projection. When
+     * {@code expectedVersion} is given the version check is part of the UPDATE's WHERE clause.
+     */
+    public EmployeeResponse updateEmployee(String email, UpdateEmployeeRequest request, Long expectedVersion) {
+        if (request.getLastName() == null && request.getPhone() == null && request.getAddress() == null) {
+            EmployeeResponse current = findResponse(email);
+            if (expectedVersion != null && !expectedVersion.equals(current.getVersion())) {
+                throw new VersionConflictException(email, expectedVersion);
+            }
+            return current;
         }
         if (request.getPhone() != null) {
-            employee.setPhone(request.getPhone());
+            phoneWriteBehindBuffer.discard(email);
+        }
+        int updated = employeeRepository.updateByEmail(
+                email, request.getLastName(), request.getPhone(), request.getAddress(), expectedVersion);
+        invalidate(email);
+        if (updated == 0) {
+            throw writeFailure(email, expectedVersion);
+        }
+        return findResponse(email);
+    }
+
+    public EmployeeResponse updateEmployeePhone(String email, UpdatePhoneRequest request, Long expectedVersion) {
+        phoneWriteBehindBuffer.discard(email);
+        int updated = employeeRepository.updatePhoneByEmail(email, request.getPhone(), expectedVersion);
+        invalidate(email);
+        if (updated == 0) {
+            throw writeFailure(email, expectedVersion);
+        }
+        return findResponse(email);
+    }
+
+    /**
+     * Hands an unconditional phone update to the write-behind buffer when that mode is on and
+     * returns true; the caller writes synchronously otherwise. Emails the filter rules out are
+     * rejected up front, other unknown emails only show up as missing rows at flush time.
+     */
+    public boolean bufferPhoneUpdate(String email, UpdatePhoneRequest request) {
+        if (!phoneWriteBehindBuffer.isEnabled()) {
+            return false;
+        }
+        if (!emailBloomFilter.mightContain(email)) {
+            throw EmployeeNotFoundException.byEmail(email);
+        }
+        phoneWriteBehindBuffer.submit(email, request.getPhone());
+        return true;
+    }
+
+    public void deleteEmployeeByEmail(String email, Long expectedVersion) {
+        phoneWriteBehindBuffer.discard(email);
+        int deleted = employeeRepository.deleteByEmail(email, expectedVersion);
+        invalidate(email);
+        if (deleted == 0) {
+            throw writeFailure(email, expectedVersion);
         }
-        if (request.getAddress() != null) {
-            employee.setAddress(request.getAddress());
+    }
+
+    private EmployeeResponse findResponse(String email) {
+        return employeeRepository.findResponseByEmailUsingHQL(email)
+                .orElseThrow(() -> EmployeeNotFoundException.byEmail(email));
+    }
+
+    /**
+     * A conditional write that matched no row either lost a race or targeted a missing
+     * employee; only this failure path pays for the extra existence check.
+     */
+    private RuntimeException writeFailure(String email, Long expectedVersion) {
+        if (expectedVersion != null && employeeRepository.existsByEmail(email)) {
+            return new VersionConflictException(email, expectedVersion);
         }
+        return EmployeeNotFoundException.byEmail(email);
+    }
 
-        Employee updated = employeeRepository.save(employee);
-        return mapToResponse(updated);
+    /**
+     * Email lookups run without a transaction of their own so that cache hits and filtered
+     * misses never touch the connection pool; only the database load runs in a read-only
+     * transaction (read-only connection, read-only session, manual flush). Concurrent misses
+     * for the same strategy and email share a single load.
+     */
+    private EmployeeResponse lookupByEmail(String strategy, String email, Supplier<EmployeeResponse> load) {
+        EmployeeResponse response = employeeCache.get(email, () -> requestCoalescer.execute("email:" + strategy + ":" + email, () -> {
+            if (!emailBloomFilter.mightContain(email)) {
+                return null;
+            }
+            EmployeeResponse loaded = load.get();
+            if (loaded == null) {
+                emailBloomFilter.recordFalsePositive();
+            }
+            return loaded;
+        }));
+        if (response == null) {
+            throw EmployeeNotFoundException.byEmail(email);
+        }
+        return response;
     }
 
-    public EmployeeResponse updateEmployeePhone(String email, UpdatePhoneRequest request) {
-        Employee employee = employeeRepository.findByEmailUsingHQL(email)
-                .orElseThrow(() -> new RuntimeException("Employee not found with email: " + email));
+    private EmployeeResponse loadByEmail(EmployeeQueryRouter.Strategy strategy, String email) {
+        return switch (strategy) {
+            case SPECIFICATIONS -> {
+                Specification<Employee> spec = EmployeeSpecifications.hasEmail(email);
+                yield readOnly(() -> employeeRepository.findResponse(spec));
+            }
+            case HQL -> emailLookupBatcher.isEnabled() && !TransactionSynchronizationManager.isActualTransactionActive()
+                    ? emailLookupBatcher.lookup(email)
+                    : readOnly(() -> employeeRepository.findResponseByEmailUsingHQL(email));
+            case NATIVE -> readOnly(() -> employeeRepository.findResponseByEmailUsingNativeSQL(email));
+        };
+    }
 
-        employee.setPhone(request.getPhone());
+    private EmployeeResponse lookupByName(String strategy, String name, Supplier<Optional<EmployeeResponse>> query) {
+        EmployeeResponse response = requestCoalescer.execute("name:" + strategy + ":" + name, () -> readOnly(query));
+        if (response == null) {
+            throw EmployeeNotFoundException.byName(name);
+        }
+        return response;
+    }
+
+    private void invalidate(String email) {
+        employeeCache.invalidate(email);
+        employeeJsonCache.invalidate(email);
+        requestCoalescer.invalidate();
+    }
 
-        Employee updated = employeeRepository.save(employee);
-        return mapToResponse(updated);
+    private EmployeeResponse readOnly(Supplier<Optional<EmployeeResponse>> query) {
+        return readOnlyTransaction().execute(status -> query.get().orElse(null));
     }
 
-    public void deleteEmployeeByEmail(String email) {
-        Employee employee = employeeRepository.findByEmailUsingHQL(email)
-                .orElseThrow(() -> new RuntimeException("Employee not found with email: " + email));
-        employeeRepository.delete(employee);
+    private TransactionTemplate readOnlyTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
     }
 
-    private EmployeeResponse mapToResponse(Employee employee) {
+    static EmployeeResponse mapToResponse(Employee employee) {
         EmployeeResponse response = new EmployeeResponse();
         response.setId(employee.getId());
         response.setName(employee.getName());
@@ -104,6 +338,8 @@ public class EmployeeService {
         response.setEmail(employee.getEmail());
         response.setPhone(employee.getPhone());
         response.setAddress(employee.getAddress());
+        response.setVersion(employee.getVersion());
+        response.setUpdatedAt(employee.getUpdatedAt());
         return response;
     }
 }
@@ -0,0 +1,135 @@
+package com.assignment.employee.service;
+
+import com.assignment.employee.exception.DuplicateEmailException;
+import com.assignment.employee.exception.EmployeeNotFoundException;
+import com.assignment.employee.exception.VersionConflictException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.StaticMethodMatcherPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Role;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every public {@link EmployeeService} method as {@code employee.service}, tagged with the
+ * operation ({@code getEmployeeByEmail}), the lookup strategy ({@code hql}, {@code native},
+ * {@code specifications}, {@code naturalid}, or {@code none}) and the outcome ({@code found},
+ * {@code not_found}, {@code conflict} or {@code error}). Timers are registered on the first call
+ * with each outcome and then reused, so the hot path only pays for the clock reads and the
+ * recording. The strategy comes from the method name; a method without one is tagged with the
+ * strategy {@link EmployeeQueryRouter} picked for its database load, or {@code none} if it did
+ * not consult the router (writes, cache hits, filtered misses). It is a plain method interceptor
+ * rather than an {@code @Aspect} so that no join point objects are allocated per call.
+ */
+@Component
+@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+@ConditionalOnProperty(name = "employee.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class EmployeeServiceMetrics extends StaticMethodMatcherPointcutAdvisor implements MethodInterceptor {
+    static final String METRIC = "employee.service";
+
+    enum Outcome {
+        FOUND, NOT_FOUND, CONFLICT, ERROR;
+
+        private final String tag = name().toLowerCase(Locale.ROOT);
+    }
+
+    private final ConcurrentMap<Method, MethodTimers> timers = new ConcurrentHashMap<>();
+
+    /**
+     * Resolved on first use: advisors are created before ordinary beans, and the registry must
+     * not be built before its customizers and meter filters are in place.
+     */
+    @Autowired
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    public EmployeeServiceMetrics() {
+        setAdvice(this);
+    }
+
+    @Override
+    public boolean matches(Method method, Class<?> targetClass) {
+        return method.getDeclaringClass() == EmployeeService.class && Modifier.isPublic(method.getModifiers());
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        MethodTimers methodTimers = timers.computeIfAbsent(invocation.getMethod(), MethodTimers::new);
+        if (methodTimers.routable) {
+            EmployeeQueryRouter.takeRouted();
+        }
+        long start = System.nanoTime();
+        Outcome outcome = Outcome.ERROR;
+        try {
+            Object result = invocation.proceed();
+            outcome = result instanceof Optional<?> optional && optional.isEmpty() ? Outcome.NOT_FOUND : Outcome.FOUND;
+            return result;
+        } catch (VersionConflictException | DuplicateEmailException e) {
+            outcome = Outcome.CONFLICT;
+            throw e;
+        } catch (EmployeeNotFoundException e) {
+            outcome = Outcome.NOT_FOUND;
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            EmployeeQueryRouter.Strategy routed = methodTimers.routable ? EmployeeQueryRouter.takeRouted() : null;
+            methodTimers.get(routed, outcome).record(elapsed, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static String strategyOf(String suffix) {
+        return switch (suffix) {
+            case "HQL" -> "hql";
+            case "NativeSQL" -> "native";
+            case "Specifications" -> "specifications";
+            case "NaturalId" -> "naturalid";
+            default -> suffix.toLowerCase(Locale.ROOT);
+        };
+    }
+
+    private final class MethodTimers {
+        private final String operation;
+        private final String strategy;
+        private final boolean routable;
+        // a row per strategy the router can pick, and a last one for the method's own strategy
+        private final Timer[][] byStrategy = new Timer[EmployeeQueryRouter.Strategy.values().length + 1][Outcome.values().length];
+
+        private MethodTimers(Method method) {
+            String name = method.getName();
+            int using = name.indexOf("Using");
+            operation = using > 0 ? name.substring(0, using) : name;
+            strategy = using > 0 ? strategyOf(name.substring(using + "Using".length())) : "none";
+            routable = using < 0;
+        }
+
+        /**
+         * Registration is idempotent, so two threads racing on a new outcome get the same timer.
+         */
+        private Timer get(EmployeeQueryRouter.Strategy routed, Outcome outcome) {
+            Timer[] byOutcome = byStrategy[routed == null ? byStrategy.length - 1 : routed.ordinal()];
+            Timer timer = byOutcome[outcome.ordinal()];
+            if (timer == null) {
+                timer = Timer.builder(METRIC)
+                        .description("EmployeeService calls by operation, lookup strategy and outcome")
+                        .tag("operation", operation)
+                        .tag("strategy", routed == null ? strategy : routed.getName())
+                        .tag("outcome", outcome.tag)
+                        .register(meterRegistry.getObject());
+                byOutcome[outcome.ordinal()] = timer;
+            }
+            return timer;
+        }
+    }
+}
@@ -0,0 +1,447 @@
+package com.assignment.employee.service;
+
+import com.assignment.employee.dto.WriteBehindStatsResponse;
+import com.assignment.employee.entity.Employee;
+import com.assignment.employee.exception.WriteBehindFullException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Optional write-behind for unconditional phone updates. Accepted updates are kept in a buffer
+ * holding only the latest phone per email, and a single flusher thread writes the buffer with
+ * one JDBC batch of UPDATEs every {@code flush-interval}, or sooner once {@code flush-size}
+ * emails are pending. A burst of updates for the same person thus costs one UPDATE.
+ * <p>
+ * Durability: {@code memory} loses pending updates on a crash; {@code journal} appends each
+ * accepted update to a local segment file before acknowledging it and replays unflushed segments
+ * on startup ({@code journal-fsync} also forces every append to disk). When {@code capacity}
+ * emails are pending, writers wait up to {@code offer-timeout} for a flush and are then rejected.
+ * <p>
+ * A synchronous write to the same employee supersedes a buffered update: it calls
+ * {@link #discard(String)} before its own UPDATE, which drops the pending update, journals the
+ * discard and, if the update is already being flushed, leaves a tombstone. The flush checks for
+ * tombstones while its UPDATEs hold the row locks and rolls back and retries without the
+ * superseded emails, so an older buffered phone never overwrites a committed synchronous write.
+ */
+@Component
+public class PhoneWriteBehindBuffer {
+    private static final Logger log = LoggerFactory.getLogger(PhoneWriteBehindBuffer.class);
+    private static final String UPDATE_PHONE =
+            "UPDATE employees SET phone = ?, version = version + 1, updated_at = CURRENT_TIMESTAMP WHERE email = ?";
+    private static final String SEGMENT_PREFIX = "phone-writes-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+
+    public enum Durability {
+        MEMORY, JOURNAL, JOURNAL_FSYNC;
+
+        public static Durability of(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        }
+    }
+
+    private final boolean enabled;
+    private final Duration flushInterval;
+    private final int flushSize;
+    private final int capacity;
+    private final long offerTimeoutNanos;
+    private final Durability durability;
+    private final Path journalDirectory;
+
+    private final Object lock = new Object();
+    private Map<String, String> pending = new LinkedHashMap<>();
+    private Set<String> inFlight = Set.of();
+    private final Set<String> superseded = new HashSet<>();
+    private FileChannel journal;
+    private long segment;
+
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong flushed = new AtomicLong();
+    private final AtomicLong missing = new AtomicLong();
+    private final AtomicLong failedFlushes = new AtomicLong();
+
+    private ScheduledExecutorService flusher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EmployeeCache employeeCache;
+
+    @Autowired
+    private EmployeeJsonCache employeeJsonCache;
+
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    public PhoneWriteBehindBuffer(@Value("${employee.write-behind.enabled:false}") boolean enabled,
+                                  @Value("${employee.write-behind.flush-interval:200ms}") Duration flushInterval,
+                                  @Value("${employee.write-behind.flush-size:500}") int flushSize,
+                                  @Value("${employee.write-behind.capacity:10000}") int capacity,
+                                  @Value("${employee.write-behind.offer-timeout:1s}") Duration offerTimeout,
+                                  @Value("${employee.write-behind.durability:memory}") String durability,
+                                  @Value("${employee.write-behind.journal-directory:data/write-behind}") Path journalDirectory) {
+        this.enabled = enabled;
+        this.flushInterval = flushInterval;
+        this.flushSize = flushSize;
+        this.capacity = capacity;
+        this.offerTimeoutNanos = offerTimeout.toNanos();
+        this.durability = Durability.of(durability);
+        this.journalDirectory = journalDirectory;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        if (durability != Durability.MEMORY) {
+            Files.createDirectories(journalDirectory);
+            for (Path recovered : segments()) {
+                segment = Math.max(segment, segmentNumber(recovered));
+                for (String line : Files.readAllLines(recovered, StandardCharsets.UTF_8)) {
+                    int separator = line.indexOf('\t');
+                    if (separator > 0) {
+                        pending.put(decode(line.substring(0, separator)), decode(line.substring(separator + 1)));
+                    } else if (!line.isEmpty()) {
+                        pending.remove(decode(line));
+                    }
+                }
+            }
+            openSegment(segment + 1);
+        }
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "phone-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = flushInterval.toMillis();
+        flusher.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+        if (!pending.isEmpty()) {
+            requestFlush();
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException, IOException {
+        if (flusher == null) {
+            return;
+        }
+        flusher.shutdown();
+        flusher.awaitTermination(10, TimeUnit.SECONDS);
+        flush();
+        synchronized (lock) {
+            if (journal != null) {
+                journal.close();
+                journal = null;
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Accepts the update, replacing any pending phone for the same email. Waits for room while
+     * the buffer is full and throws {@link WriteBehindFullException} if none frees up in time.
+     */
+    public void submit(String email, String phone) {
+        synchronized (lock) {
+            long deadline = System.nanoTime() + offerTimeoutNanos;
+            while (pending.size() >= capacity && !pending.containsKey(email)) {
+                requestFlush();
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    rejected.incrementAndGet();
+                    throw new WriteBehindFullException("Phone update buffer is full, retry later");
+                }
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    rejected.incrementAndGet();
+                    throw new WriteBehindFullException("Interrupted while waiting for room in the phone update buffer");
+                }
+            }
+            appendToJournal(encode(email) + "\t" + encode(phone) + "\n", email);
+            if (pending.put(email, phone) != null) {
+                coalesced.incrementAndGet();
+            }
+            accepted.incrementAndGet();
+            if (pending.size() >= flushSize) {
+                requestFlush();
+            }
+        }
+    }
+
+    /**
+     * Drops any buffered update for {@code email} because a synchronous write is about to
+     * supersede it; must be called before that write's UPDATE. The discard is journaled, so a
+     * replay after a crash does not bring the older phone back, and an update of this email that
+     * is being flushed right now is tombstoned so that the flush leaves it out.
+     */
+    public void discard(String email) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (lock) {
+            appendToJournal(encode(email) + "\n", email);
+            pending.remove(email);
+            if (inFlight.contains(email)) {
+                superseded.add(email);
+            }
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Writes everything pending in one transaction. Runs on the flusher thread, or on the caller
+     * during shutdown; a failed flush puts its updates back unless they were superseded or newer
+     * ones arrived meanwhile.
+     */
+    public void flush() {
+        Map<String, String> batch;
+        long flushedSegment;
+        synchronized (lock) {
+            flushRequested.set(false);
+            if (pending.isEmpty()) {
+                return;
+            }
+            try {
+                flushedSegment = rotateJournal();
+            } catch (UncheckedIOException e) {
+                failedFlushes.incrementAndGet();
+                log.warn("Phone write-behind flush skipped: {}", e.getMessage(), e);
+                return;
+            }
+            batch = pending;
+            pending = new LinkedHashMap<>();
+            inFlight = batch.keySet();
+            lock.notifyAll();
+        }
+
+        try {
+            int[][] counts = writeUnlessSuperseded(batch);
+            for (int[] chunk : counts) {
+                for (int count : chunk) {
+                    if (count == 0) {
+                        missing.incrementAndGet();
+                    }
+                }
+            }
+            flushes.incrementAndGet();
+            flushed.addAndGet(batch.size());
+            deleteSegmentsUpTo(flushedSegment);
+        } catch (RuntimeException e) {
+            failedFlushes.incrementAndGet();
+            log.warn("Phone write-behind flush of {} updates failed, will retry", batch.size(), e);
+            synchronized (lock) {
+                batch.forEach((email, phone) -> {
+                    if (!superseded.contains(email)) {
+                        pending.putIfAbsent(email, phone);
+                    }
+                });
+            }
+        } finally {
+            synchronized (lock) {
+                inFlight = Set.of();
+                superseded.clear();
+            }
+            batch.keySet().forEach(employeeCache::invalidate);
+            batch.keySet().forEach(employeeJsonCache::invalidate);
+            requestCoalescer.invalidate();
+            // the UPDATEs bypass Hibernate, so cached Employee entities (l2cache profile) are stale
+            entityManagerFactory.getCache().evict(Employee.class);
+        }
+    }
+
+    /**
+     * Runs the UPDATEs and, while they still hold their row locks, checks for tombstones. A
+     * synchronous write that discarded one of these emails may already have committed, so the
+     * transaction is rolled back and retried without the superseded emails; one that discards
+     * after the check blocks on the row lock and commits after this flush. Superseded emails are
+     * removed from {@code batch}.
+     */
+    private int[][] writeUnlessSuperseded(Map<String, String> batch) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        while (!batch.isEmpty()) {
+            try {
+                int[][] counts = transaction.execute(status -> {
+                    int[][] written = jdbcTemplate.batchUpdate(UPDATE_PHONE, batch.entrySet(), flushSize,
+                            (statement, update) -> {
+                                statement.setString(1, update.getValue());
+                                statement.setString(2, update.getKey());
+                            });
+                    synchronized (lock) {
+                        if (!Collections.disjoint(superseded, batch.keySet())) {
+                            throw new SupersededException();
+                        }
+                    }
+                    return written;
+                });
+                return counts == null ? new int[0][] : counts;
+            } catch (SupersededException e) {
+                synchronized (lock) {
+                    batch.keySet().removeAll(superseded);
+                }
+            }
+        }
+        return new int[0][];
+    }
+
+    public WriteBehindStatsResponse stats() {
+        WriteBehindStatsResponse response = new WriteBehindStatsResponse();
+        response.setEnabled(enabled);
+        response.setDurability(durability.name().toLowerCase(Locale.ROOT).replace('_', '-'));
+        synchronized (lock) {
+            response.setPending(pending.size());
+        }
+        response.setCapacity(capacity);
+        response.setAccepted(accepted.get());
+        response.setCoalesced(coalesced.get());
+        response.setRejected(rejected.get());
+        response.setFlushes(flushes.get());
+        response.setFlushed(flushed.get());
+        response.setMissing(missing.get());
+        response.setFailedFlushes(failedFlushes.get());
+        response.setCoalescedRate(accepted.get() == 0 ? 0.0 : (double) coalesced.get() / accepted.get());
+        return response;
+    }
+
+    private void requestFlush() {
+        if (flusher != null && !flusher.isShutdown() && flushRequested.compareAndSet(false, true)) {
+            flusher.execute(this::flush);
+        }
+    }
+
+    /**
+     * Appends an update ({@code email\tphone}) or a discard ({@code email}) record. Called with
+     * the lock held.
+     */
+    private void appendToJournal(String record, String email) {
+        if (journal == null) {
+            return;
+        }
+        try {
+            ByteBuffer line = ByteBuffer.wrap(record.getBytes(StandardCharsets.UTF_8));
+            while (line.hasRemaining()) {
+                journal.write(line);
+            }
+            if (durability == Durability.JOURNAL_FSYNC) {
+                journal.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not journal phone write for " + email, e);
+        }
+    }
+
+    /**
+     * Starts a new segment for updates accepted from now on and returns the number of the one
+     * being flushed, or -1 without a journal. Called with the lock held.
+     */
+    private long rotateJournal() {
+        if (journal == null) {
+            return -1;
+        }
+        long closed = segment;
+        try {
+            journal.close();
+            openSegment(segment + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not rotate the phone update journal", e);
+        }
+        return closed;
+    }
+
+    private void openSegment(long number) throws IOException {
+        segment = number;
+        journal = FileChannel.open(journalDirectory.resolve(SEGMENT_PREFIX + number + SEGMENT_SUFFIX),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private void deleteSegmentsUpTo(long number) {
+        if (number < 0) {
+            return;
+        }
+        try {
+            for (Path flushedSegment : segments()) {
+                if (segmentNumber(flushedSegment) <= number) {
+                    Files.deleteIfExists(flushedSegment);
+                }
+            }
+        } catch (IOException e) {
+            // a leftover segment is replayed on the next start; updates superseded since were
+            // journaled as discards in later segments, so the replay cannot bring them back
+            log.warn("Could not delete flushed phone write-behind segments", e);
+        }
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(journalDirectory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted(Comparator.comparingLong(PhoneWriteBehindBuffer::segmentNumber))
+                    .toList();
+        }
+    }
+
+    private static long segmentNumber(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * Thrown inside the flush transaction to roll it back when a tombstone is found.
+     */
+    private static final class SupersededException extends RuntimeException {
+        SupersededException() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value == null ? "" : value, StandardCharsets.UTF_8);
+    }
+
+    private static String decode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+}
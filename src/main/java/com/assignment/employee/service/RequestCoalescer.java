@@ -0,0 +1,102 @@
+package com.assignment.employee.service;
+
+import com.assignment.employee.dto.CoalescingStatsResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight execution of lookups: while a load for a key is running, further callers for
+ * the same key wait for it and share its result (or exception) instead of querying again.
+ * <p>
+ * Every write bumps an epoch that is part of the flight key, so a caller arriving after a
+ * write never joins a load that may have read the row before it. Callers inside an existing
+ * transaction run their own load, since they may need to see their own uncommitted data.
+ */
+@Component
+public class RequestCoalescer {
+    private final boolean enabled;
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong writeEpoch = new AtomicLong();
+    private final AtomicLong executions = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    public RequestCoalescer(@Value("${employee.coalescing.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> loader) {
+        if (!enabled || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return loader.get();
+        }
+        String flightKey = writeEpoch.get() + "|" + key;
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            return (T) join(existing);
+        }
+
+        executions.incrementAndGet();
+        try {
+            T result = loader.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    /**
+     * Called on every write, both immediately and once the writing transaction completes;
+     * loads already in flight finish for their current callers only.
+     */
+    public void invalidate() {
+        writeEpoch.incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    writeEpoch.incrementAndGet();
+                }
+            });
+        }
+    }
+
+    public CoalescingStatsResponse stats() {
+        CoalescingStatsResponse response = new CoalescingStatsResponse();
+        response.setEnabled(enabled);
+        response.setInFlight(inFlight.size());
+        response.setExecutions(executions.get());
+        response.setCoalesced(coalesced.get());
+        long total = executions.get() + coalesced.get();
+        response.setCoalescedRate(total == 0 ? 0.0 : (double) coalesced.get() / total);
+        return response;
+    }
+
+    private static Object join(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.assignment.employee.service;
+
+import com.assignment.employee.dto.CacheStatsResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, expiring Caffeine cache keyed by email that never keeps a value loaded across a write.
+ * Every write bumps a write epoch and invalidates the key both immediately and once the writing
+ * transaction completes; a load only populates the cache if no write happened while it was
+ * running. The epoch check and the put, like the epoch bump and the invalidation, run under the
+ * key's map lock, so an invalidation cannot slip in between them. Backs {@link EmployeeCache} and
+ * {@link EmployeeJsonCache}.
+ */
+final class WriteEpochCache<V> {
+    private final Cache<String, V> cache;
+    private final AtomicLong writeEpoch = new AtomicLong();
+
+    WriteEpochCache(long maxSize, Duration ttl) {
+        this(Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl));
+    }
+
+    WriteEpochCache(Caffeine<Object, Object> builder) {
+        this.cache = builder.recordStats().build();
+    }
+
+    V getIfPresent(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * Returns the cached value, or runs {@code loader} and caches a non-null result unless a
+     * write happened meanwhile.
+     */
+    V get(String key, Supplier<V> loader) {
+        V cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long epoch = writeEpoch.get();
+        V loaded = loader.get();
+        putIfUnchangedSince(epoch, key, loaded);
+        return loaded;
+    }
+
+    long epoch() {
+        return writeEpoch.get();
+    }
+
+    /**
+     * Caches a value read after {@link #epoch()} returned {@code epoch}, unless a write happened
+     * since.
+     */
+    void putIfUnchangedSince(long epoch, String key, V value) {
+        if (value != null) {
+            cache.asMap().compute(key, (k, current) -> writeEpoch.get() == epoch ? value : current);
+        }
+    }
+
+    void invalidate(String key) {
+        invalidateNow(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidateNow(key);
+                }
+            });
+        }
+    }
+
+    private void invalidateNow(String key) {
+        cache.asMap().compute(key, (k, current) -> {
+            writeEpoch.incrementAndGet();
+            return null;
+        });
+    }
+
+    void invalidateAll() {
+        writeEpoch.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    CacheStatsResponse stats(boolean enabled) {
+        CacheStats stats = cache.stats();
+        CacheStatsResponse response = new CacheStatsResponse();
+        response.setEnabled(enabled);
+        response.setSize(cache.estimatedSize());
+        response.setHitCount(stats.hitCount());
+        response.setMissCount(stats.missCount());
+        response.setHitRate(stats.hitRate());
+        response.setEvictionCount(stats.evictionCount());
+        return response;
+    }
+}
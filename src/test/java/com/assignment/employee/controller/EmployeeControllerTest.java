@@ -1,22 +1,51 @@
 package com.assignment.employee.controller;
 
+import com.assignment.employee.config.WireFormatConfiguration;
 import com.assignment.employee.dto.*;
+import com.assignment.employee.exception.DuplicateEmailException;
+import com.assignment.employee.exception.EmployeeNotFoundException;
+import com.assignment.employee.exception.VersionConflictException;
+import com.assignment.employee.exception.WriteBehindFullException;
+import com.assignment.employee.service.EmployeeBatchService;
+import com.assignment.employee.service.EmployeeExportService;
+import com.assignment.employee.service.EmployeeImportService;
+import com.assignment.employee.service.EmployeeJsonCache;
+import com.assignment.employee.service.EmployeeLookupService;
 import com.assignment.employee.service.EmployeeService;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(EmployeeController.class)
+@Import(WireFormatConfiguration.class)
 class EmployeeControllerTest {
     @Autowired
     private MockMvc mockMvc;
@@ -24,9 +53,80 @@ class EmployeeControllerTest {
     @MockBean
     private EmployeeService employeeService;
 
+    @MockBean
+    private EmployeeBatchService employeeBatchService;
+
+    @MockBean
+    private EmployeeImportService employeeImportService;
+
+    @MockBean
+    private EmployeeExportService employeeExportService;
+
+    @MockBean
+    private EmployeeLookupService employeeLookupService;
+
+    @MockBean
+    private EmployeeJsonCache employeeJsonCache;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Test
+    void testGetEmployeeByEmail() throws Exception {
+        EmployeeResponse response = new EmployeeResponse();
+        response.setId(1L);
+        response.setName("Aarav Sharma");
+        response.setEmail("aarav.sharma@example.com");
+
+        when(employeeService.getEmployeeByEmail("aarav.sharma@example.com")).thenReturn(response);
+
+        mockMvc.perform(get("/api/employees/email/aarav.sharma@example.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value("aarav.sharma@example.com"));
+    }
+
+    @Test
+    void testGetEmployeeByEmailNotFound() throws Exception {
+        when(employeeService.getEmployeeByEmail("missing@example.com"))
+                .thenThrow(EmployeeNotFoundException.byEmail("missing@example.com"));
+
+        mockMvc.perform(get("/api/employees/email/missing@example.com"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Not Found"))
+                .andExpect(jsonPath("$.message").value("Employee not found with email: missing@example.com"))
+                .andExpect(jsonPath("$.timestamp").exists())
+                .andExpect(jsonPath("$.details").doesNotExist());
+    }
+
+    @Test
+    void testUnexpectedFailureIsAServerError() throws Exception {
+        when(employeeService.getEmployeeByEmail("aarav.sharma@example.com"))
+                .thenThrow(new IllegalStateException("could not execute statement [Unique index or primary key violation: PUBLIC.EMPLOYEES]"));
+
+        mockMvc.perform(get("/api/employees/email/aarav.sharma@example.com"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.status").value(500))
+                .andExpect(jsonPath("$.message").value("An unexpected error occurred"));
+    }
+
+    @Test
+    void testIllegalArgumentFromBelowIsNotAClientError() throws Exception {
+        when(employeeService.getEmployeeByEmail("aarav.sharma@example.com"))
+                .thenThrow(new IllegalArgumentException("Parameter value did not match expected type"));
+
+        mockMvc.perform(get("/api/employees/email/aarav.sharma@example.com"))
+                .andExpect(status().isInternalServerError());
+    }
+
+    @Test
+    void testMalformedRequestBody() throws Exception {
+        mockMvc.perform(post("/api/employees")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": "))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Malformed request body"));
+    }
+
     @Test
     void testGetEmployeeByEmailUsingSpecifications() throws Exception {
         EmployeeResponse response = new EmployeeResponse();
@@ -69,6 +169,20 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$.email").value("aarav.sharma@example.com"));
     }
 
+    @Test
+    void testGetEmployeeByEmailUsingNaturalId() throws Exception {
+        EmployeeResponse response = new EmployeeResponse();
+        response.setId(1L);
+        response.setName("Aarav Sharma");
+        response.setEmail("aarav.sharma@example.com");
+
+        when(employeeService.getEmployeeByEmailUsingNaturalId("aarav.sharma@example.com")).thenReturn(response);
+
+        mockMvc.perform(get("/api/employees/email/aarav.sharma@example.com/naturalid"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value("aarav.sharma@example.com"));
+    }
+
     @Test
     void testGetEmployeeByNameUsingSpecifications() throws Exception {
         EmployeeResponse response = new EmployeeResponse();
@@ -129,6 +243,228 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$.email").value("aarav.sharma@example.com"));
     }
 
+    @Test
+    void testCreateEmployeeWithTakenEmail() throws Exception {
+        CreateEmployeeRequest request = new CreateEmployeeRequest("Aarav Sharma", "aarav.sharma@example.com", "9876543210");
+        when(employeeService.createEmployee(any(CreateEmployeeRequest.class)))
+                .thenThrow(new DuplicateEmailException("aarav.sharma@example.com"));
+
+        mockMvc.perform(post("/api/employees")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409))
+                .andExpect(jsonPath("$.message").value("Employee already exists with email: aarav.sharma@example.com"));
+    }
+
+    @Test
+    void testGetEmployeeByEmailAsCbor() throws Exception {
+        EmployeeResponse response = new EmployeeResponse();
+        response.setId(1L);
+        response.setName("Aarav Sharma");
+        response.setEmail("aarav.sharma@example.com");
+        response.setUpdatedAt(Instant.parse("2024-01-01T10:00:00Z"));
+
+        when(employeeService.getEmployeeByEmailUsingHQL("aarav.sharma@example.com")).thenReturn(response);
+
+        byte[] body = mockMvc.perform(get("/api/employees/email/aarav.sharma@example.com/hql")
+                        .accept("application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/cbor"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode employee = new CBORMapper().readTree(body);
+        assertEquals("aarav.sharma@example.com", employee.get("email").asText());
+        assertEquals("2024-01-01T10:00:00Z", employee.get("updatedAt").asText());
+    }
+
+    @Test
+    void testCreateEmployeeFromSmile() throws Exception {
+        SmileMapper smileMapper = new SmileMapper();
+        CreateEmployeeRequest request = new CreateEmployeeRequest("Aarav Sharma", "aarav.sharma@example.com", "9876543210");
+        EmployeeResponse response = new EmployeeResponse();
+        response.setId(1L);
+        response.setEmail("aarav.sharma@example.com");
+
+        when(employeeService.createEmployee(any(CreateEmployeeRequest.class))).thenReturn(response);
+
+        byte[] body = mockMvc.perform(post("/api/employees")
+                        .contentType("application/x-jackson-smile")
+                        .accept("application/x-jackson-smile")
+                        .content(smileMapper.writeValueAsBytes(request)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Content-Type", "application/x-jackson-smile"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertEquals("aarav.sharma@example.com", smileMapper.readTree(body).get("email").asText());
+        verify(employeeService).createEmployee(argThat(created -> created.getPhone().equals("9876543210")));
+    }
+
+    @Test
+    void testErrorResponseFollowsTheNegotiatedFormat() throws Exception {
+        when(employeeService.getEmployeeByEmail("missing@example.com"))
+                .thenThrow(EmployeeNotFoundException.byEmail("missing@example.com"));
+
+        byte[] body = mockMvc.perform(get("/api/employees/email/missing@example.com")
+                        .accept("application/cbor"))
+                .andExpect(status().isNotFound())
+                .andExpect(header().string("Content-Type", "application/cbor"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertEquals(404, new CBORMapper().readTree(body).get("status").asInt());
+    }
+
+    @Test
+    void testETagNamesTheNegotiatedFormat() throws Exception {
+        EmployeeResponse response = new EmployeeResponse();
+        response.setEmail("aarav.sharma@example.com");
+        response.setVersion(2L);
+        when(employeeService.findVersionByEmail("aarav.sharma@example.com"))
+                .thenReturn(Optional.of(new EmployeeVersion(2L, null)));
+        when(employeeService.getEmployeeByEmailUsingHQL("aarav.sharma@example.com")).thenReturn(response);
+
+        // the JSON tag must not validate the CBOR representation
+        mockMvc.perform(get("/api/employees/email/aarav.sharma@example.com/hql")
+                        .accept("application/cbor")
+                        .header("If-None-Match", "\"2\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"2-cbor\""))
+                .andExpect(header().string("Vary", "Accept"));
+
+        mockMvc.perform(get("/api/employees/email/aarav.sharma@example.com/hql")
+                        .accept("application/cbor")
+                        .header("If-None-Match", "\"2-cbor\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"2-cbor\""))
+                .andExpect(header().string("Vary", "Accept"));
+
+        mockMvc.perform(get("/api/employees/email/aarav.sharma@example.com/hql")
+                        .header("If-None-Match", "\"2-cbor\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"2\""))
+                .andExpect(header().string("Vary", "Accept"));
+    }
+
+    @Test
+    void testIfMatchAcceptsTheTagOfAnyFormat() throws Exception {
+        UpdateEmployeeRequest request = new UpdateEmployeeRequest();
+        request.setPhone("5554443333");
+        EmployeeResponse response = new EmployeeResponse();
+        response.setVersion(3L);
+        when(employeeService.updateEmployee(eq("aarav.sharma@example.com"), any(UpdateEmployeeRequest.class), eq(2L)))
+                .thenReturn(response);
+
+        mockMvc.perform(put("/api/employees/aarav.sharma@example.com")
+                        .header("If-Match", "\"2-x-jackson-smile\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""));
+    }
+
+    @Test
+    void testUnproducibleAcceptIsNotAcceptable() throws Exception {
+        mockMvc.perform(get("/api/employees/email/aarav.sharma@example.com")
+                        .accept(MediaType.TEXT_PLAIN))
+                .andExpect(status().isNotAcceptable())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.status").value(406))
+                .andExpect(jsonPath("$.message").value(
+                        "Acceptable representations: application/json, application/cbor, application/x-jackson-smile"));
+
+        verify(employeeService, never()).getEmployeeByEmail(anyString());
+    }
+
+    @Test
+    void testUnsupportedContentTypeIsRejected() throws Exception {
+        mockMvc.perform(post("/api/employees")
+                        .contentType(MediaType.APPLICATION_XML)
+                        .content("<employee/>"))
+                .andExpect(status().isUnsupportedMediaType())
+                .andExpect(jsonPath("$.status").value(415))
+                .andExpect(jsonPath("$.message").value("Content-Type application/xml is not supported"))
+                .andExpect(header().exists("Accept"));
+
+        verify(employeeService, never()).createEmployee(any(CreateEmployeeRequest.class));
+    }
+
+    @Test
+    void testConditionalGetNotModified() throws Exception {
+        when(employeeService.findVersionByEmail("aarav.sharma@example.com"))
+                .thenReturn(Optional.of(new EmployeeVersion(2L, Instant.parse("2024-01-01T10:00:00Z"))));
+
+        mockMvc.perform(get("/api/employees/email/aarav.sharma@example.com/hql")
+                        .header("If-None-Match", "\"2\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"2\""))
+                .andExpect(header().string("Last-Modified", "Mon, 01 Jan 2024 10:00:00 GMT"))
+                .andExpect(content().string(""));
+
+        verify(employeeService, never()).getEmployeeByEmailUsingHQL(anyString());
+    }
+
+    @Test
+    void testGetEmployeeByEmailWritesPreEncodedJson() throws Exception {
+        byte[] json = "{\"email\":\"aarav.sharma@example.com\",\"version\":2}".getBytes(StandardCharsets.UTF_8);
+        when(employeeJsonCache.isEnabled()).thenReturn(true);
+        when(employeeJsonCache.get(eq("aarav.sharma@example.com"), any()))
+                .thenReturn(new EmployeeJsonCache.Entry(json, 2L, Instant.parse("2024-01-01T10:00:00Z")));
+
+        mockMvc.perform(get("/api/employees/email/aarav.sharma@example.com/hql"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/json"))
+                .andExpect(header().string("ETag", "\"2\""))
+                .andExpect(header().string("Last-Modified", "Mon, 01 Jan 2024 10:00:00 GMT"))
+                .andExpect(content().bytes(json));
+    }
+
+    @Test
+    void testPreEncodedJsonIsSkippedWhenAnotherTypeIsPreferred() throws Exception {
+        EmployeeResponse response = new EmployeeResponse();
+        response.setEmail("aarav.sharma@example.com");
+        when(employeeJsonCache.isEnabled()).thenReturn(true);
+        when(employeeService.getEmployeeByEmailUsingHQL("aarav.sharma@example.com")).thenReturn(response);
+
+        mockMvc.perform(get("/api/employees/email/aarav.sharma@example.com/hql")
+                        .header("Accept", "application/json;q=0.5, application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/cbor"));
+
+        verify(employeeJsonCache, never()).get(anyString(), any());
+    }
+
+    @Test
+    void testConditionalGetModifiedSince() throws Exception {
+        EmployeeResponse response = new EmployeeResponse();
+        response.setName("Aarav Sharma");
+        response.setVersion(3L);
+        response.setUpdatedAt(Instant.parse("2024-01-02T10:00:00Z"));
+        when(employeeService.findVersionByName("Aarav Sharma"))
+                .thenReturn(Optional.of(new EmployeeVersion(3L, Instant.parse("2024-01-02T10:00:00Z"))));
+        when(employeeService.getEmployeeByNameUsingHQL("Aarav Sharma")).thenReturn(response);
+
+        mockMvc.perform(get("/api/employees/name/Aarav Sharma/hql")
+                        .header("If-Modified-Since", "Mon, 01 Jan 2024 10:00:00 GMT"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(jsonPath("$.name").value("Aarav Sharma"));
+    }
+
+    @Test
+    void testLookupEmployees() throws Exception {
+        EmployeeResponse found = new EmployeeResponse();
+        found.setEmail("aarav.sharma@example.com");
+        when(employeeLookupService.lookupEmployees(any(EmployeeLookupRequest.class)))
+                .thenReturn(new EmployeeLookupResponse(List.of(found), List.of("notfound@example.com")));
+
+        mockMvc.perform(post("/api/employees/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"emails\":[\"aarav.sharma@example.com\",\"notfound@example.com\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.found[0].email").value("aarav.sharma@example.com"))
+                .andExpect(jsonPath("$.missing[0]").value("notfound@example.com"));
+    }
+
     @Test
     void testUpdateEmployee() throws Exception {
         UpdateEmployeeRequest request = new UpdateEmployeeRequest();
@@ -143,7 +479,7 @@ class EmployeeControllerTest {
         response.setPhone("9876543210");
         response.setAddress("456 Oak Ave");
 
-        when(employeeService.updateEmployee(eq("aarav.sharma@example.com"), any(UpdateEmployeeRequest.class))).thenReturn(response);
+        when(employeeService.updateEmployee(eq("aarav.sharma@example.com"), any(UpdateEmployeeRequest.class), isNull())).thenReturn(response);
 
         mockMvc.perform(put("/api/employees/aarav.sharma@example.com")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -160,13 +496,65 @@ class EmployeeControllerTest {
         response.setName("Aarav Sharma");
         response.setPhone("9998887777");
 
-        when(employeeService.updateEmployeePhone(eq("aarav.sharma@example.com"), any(UpdatePhoneRequest.class))).thenReturn(response);
+        response.setVersion(4L);
+
+        when(employeeService.updateEmployeePhone(eq("aarav.sharma@example.com"), any(UpdatePhoneRequest.class), eq(3L))).thenReturn(response);
 
         mockMvc.perform(patch("/api/employees/aarav.sharma@example.com/phone")
+                        .header("If-Match", "\"3\"")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.phone").value("9998887777"));
+                .andExpect(header().string("ETag", "\"4\""))
+                .andExpect(jsonPath("$.phone").value("9998887777"))
+                .andExpect(jsonPath("$.version").value(4));
+    }
+
+    @Test
+    void testUpdateEmployeePhoneVersionConflict() throws Exception {
+        UpdatePhoneRequest request = new UpdatePhoneRequest("9998887777");
+        when(employeeService.updateEmployeePhone(eq("aarav.sharma@example.com"), any(UpdatePhoneRequest.class), eq(3L)))
+                .thenThrow(new VersionConflictException("aarav.sharma@example.com", 3L));
+
+        mockMvc.perform(patch("/api/employees/aarav.sharma@example.com/phone")
+                        .header("If-Match", "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.status").value(412));
+    }
+
+    @Test
+    void testUpdateEmployeePhoneWriteBehind() throws Exception {
+        UpdatePhoneRequest request = new UpdatePhoneRequest("9998887777");
+        when(employeeService.bufferPhoneUpdate(eq("aarav.sharma@example.com"), any(UpdatePhoneRequest.class))).thenReturn(true);
+
+        mockMvc.perform(patch("/api/employees/aarav.sharma@example.com/phone")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted());
+
+        verify(employeeService, never()).updateEmployeePhone(anyString(), any(UpdatePhoneRequest.class), any());
+    }
+
+    @Test
+    void testUpdateEmployeePhoneWriteBehindFull() throws Exception {
+        UpdatePhoneRequest request = new UpdatePhoneRequest("9998887777");
+        when(employeeService.bufferPhoneUpdate(eq("aarav.sharma@example.com"), any(UpdatePhoneRequest.class)))
+                .thenThrow(new WriteBehindFullException("Phone update buffer is full, retry later"));
+
+        mockMvc.perform(patch("/api/employees/aarav.sharma@example.com/phone")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
+    @Test
+    void testDeleteEmployeeByEmailWithUnknownETag() throws Exception {
+        mockMvc.perform(delete("/api/employees/aarav.sharma@example.com")
+                        .header("If-Match", "W/\"abc\""))
+                .andExpect(status().isPreconditionFailed());
     }
 
     @Test
@@ -174,5 +562,69 @@ class EmployeeControllerTest {
         mockMvc.perform(delete("/api/employees/aarav.sharma@example.com"))
                 .andExpect(status().isNoContent());
     }
-}
 
+    @Test
+    void testCreateEmployees() throws Exception {
+        List<CreateEmployeeRequest> requests = List.of(
+                new CreateEmployeeRequest("Aarav Sharma", "aarav.sharma@example.com", "9876543210"),
+                new CreateEmployeeRequest("Neha Verma", "aarav.sharma@example.com", "9123456780"));
+        EmployeeResponse created = new EmployeeResponse();
+        created.setId(1L);
+        created.setName("Aarav Sharma");
+        created.setEmail("aarav.sharma@example.com");
+        BatchCreateResponse response = new BatchCreateResponse(List.of(
+                BatchItemResult.created(0, created),
+                BatchItemResult.failed(1, "aarav.sharma@example.com", BatchItemResult.Status.DUPLICATE_EMAIL,
+                        List.of("email: Employee already exists with email: aarav.sharma@example.com"))));
+
+        when(employeeBatchService.createEmployees(any())).thenReturn(response);
+
+        mockMvc.perform(post("/api/employees/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[1].status").value("DUPLICATE_EMAIL"));
+    }
+
+    @Test
+    void testExportEmployees() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(0);
+            out.write("{\"email\":\"aarav.sharma@example.com\"}\n".getBytes());
+            return 1L;
+        }).when(employeeExportService).exportEmployees(any(), eq(EmployeeExportService.Format.NDJSON));
+
+        MvcResult result = mockMvc.perform(get("/api/employees/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andExpect(content().string("{\"email\":\"aarav.sharma@example.com\"}\n"));
+    }
+
+    @Test
+    void testExportEmployeesUnsupportedFormat() throws Exception {
+        mockMvc.perform(get("/api/employees/export").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+    }
+
+    @Test
+    void testListEmployees() throws Exception {
+        EmployeeResponse response = new EmployeeResponse();
+        response.setId(1L);
+        response.setName("Aarav Sharma");
+        response.setEmail("aarav.sharma@example.com");
+
+        when(employeeService.listEmployees("id", 1, null)).thenReturn(new EmployeePageResponse(List.of(response), "next"));
+
+        mockMvc.perform(get("/api/employees").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].email").value("aarav.sharma@example.com"))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+}
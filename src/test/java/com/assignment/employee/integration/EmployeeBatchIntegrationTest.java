@@ -0,0 +1,59 @@
+package com.assignment.employee.integration;
+
+import com.assignment.employee.dto.BatchItemResult;
+import com.assignment.employee.dto.CreateEmployeeRequest;
+import com.assignment.employee.entity.Employee;
+import com.assignment.employee.repository.EmployeeRepository;
+import com.assignment.employee.service.EmployeeBatchService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doReturn;
+
+/**
+ * A chunk that loses the race for an email against a concurrent writer: the up-front existence
+ * check is made to miss, so the unique constraint is what catches the duplicate.
+ */
+@SpringBootTest
+class EmployeeBatchIntegrationTest {
+    @Autowired
+    private EmployeeBatchService employeeBatchService;
+
+    @SpyBean
+    private EmployeeRepository employeeRepository;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+        employeeRepository.save(new Employee("Aarav Sharma", "aarav.sharma@example.com", "9876543210"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeRepository.deleteAll();
+    }
+
+    @Test
+    void testChunkThatHitsTheUniqueConstraintIsRetriedItemByItem() {
+        doReturn(List.of()).when(employeeRepository).findExistingEmails(anyCollection());
+
+        List<BatchItemResult> results = employeeBatchService.persistChunk(List.of(
+                new EmployeeBatchService.IndexedRequest(0, new CreateEmployeeRequest("Neha Verma", "neha.verma@example.com", "9123456780")),
+                new EmployeeBatchService.IndexedRequest(1, new CreateEmployeeRequest("Aarav Again", "aarav.sharma@example.com"))));
+
+        assertEquals(2, results.size());
+        assertEquals(BatchItemResult.Status.CREATED, results.get(0).getStatus());
+        assertEquals(BatchItemResult.Status.DUPLICATE_EMAIL, results.get(1).getStatus());
+        assertEquals(1, results.get(1).getIndex());
+        assertTrue(employeeRepository.findByEmailUsingHQL("neha.verma@example.com").isPresent());
+        assertEquals(2, employeeRepository.count());
+    }
+}
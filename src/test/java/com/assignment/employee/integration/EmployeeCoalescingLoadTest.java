@@ -0,0 +1,103 @@
+package com.assignment.employee.integration;
+
+import com.assignment.employee.dto.EmployeeResponse;
+import com.assignment.employee.entity.Employee;
+import com.assignment.employee.repository.EmployeeRepository;
+import com.assignment.employee.service.EmployeeService;
+import com.assignment.employee.service.RequestCoalescer;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Thundering herd against one employee: many clients refresh the same profile at once while
+ * the database is slow. With coalescing, the herd is served by a handful of queries.
+ */
+@SpringBootTest(properties = {
+        "employee.cache.enabled=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+                "com.assignment.employee.integration.EmployeeCoalescingLoadTest$SlowEmailLookups"
+})
+class EmployeeCoalescingLoadTest {
+    private static final int CLIENTS = 64;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    /**
+     * Makes every lookup by email take 200 ms and counts how many reach the database.
+     */
+    public static class SlowEmailLookups implements StatementInspector {
+        static final AtomicInteger QUERIES = new AtomicInteger();
+        static volatile boolean active;
+
+        @Override
+        public String inspect(String sql) {
+            if (active && sql.startsWith("select") && sql.contains("e1_0.email=?")) {
+                QUERIES.incrementAndGet();
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return sql;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+        employeeRepository.save(new Employee("Aarav Sharma", "aarav.sharma@example.com", "9876543210"));
+        SlowEmailLookups.QUERIES.set(0);
+        SlowEmailLookups.active = true;
+    }
+
+    @AfterEach
+    void tearDown() {
+        SlowEmailLookups.active = false;
+        employeeRepository.deleteAll();
+    }
+
+    @Test
+    void testThunderingHerdIsServedByFewQueries() throws Exception {
+        long coalescedBefore = requestCoalescer.stats().getCoalesced();
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            CyclicBarrier start = new CyclicBarrier(CLIENTS);
+            List<Future<EmployeeResponse>> responses = new ArrayList<>();
+            for (int i = 0; i < CLIENTS; i++) {
+                responses.add(clients.submit(() -> {
+                    start.await();
+                    return employeeService.getEmployeeByEmailUsingHQL("aarav.sharma@example.com");
+                }));
+            }
+            for (Future<EmployeeResponse> response : responses) {
+                assertEquals("Aarav Sharma", response.get(30, TimeUnit.SECONDS).getName());
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+
+        int queries = SlowEmailLookups.QUERIES.get();
+        assertTrue(queries > 0);
+        assertTrue(queries < CLIENTS / 4, "expected a handful of queries but ran " + queries);
+        assertEquals(CLIENTS - queries, requestCoalescer.stats().getCoalesced() - coalescedBefore);
+    }
+}
@@ -0,0 +1,132 @@
+package com.assignment.employee.integration;
+
+import com.assignment.employee.dto.CreateEmployeeRequest;
+import com.assignment.employee.dto.EmployeeResponse;
+import com.assignment.employee.entity.Employee;
+import com.assignment.employee.exception.DuplicateEmailException;
+import com.assignment.employee.repository.EmployeeRepository;
+import com.assignment.employee.service.EmployeeBatchService;
+import com.assignment.employee.service.EmployeeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Concurrent single creates share commits, and each caller still gets its own outcome.
+ */
+@SpringBootTest(properties = {
+        "employee.group-commit.enabled=true",
+        // wide enough that the concurrent creates below land in few groups
+        "employee.group-commit.linger=100ms",
+        "employee.group-commit.max-size=64"
+})
+class EmployeeGroupCommitIntegrationTest {
+    private static final int WRITERS = 16;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @SpyBean
+    private EmployeeRepository employeeRepository;
+
+    @SpyBean
+    private EmployeeBatchService employeeBatchService;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+        employeeRepository.save(new Employee("Aarav Sharma", "aarav.sharma@example.com", "9876543210"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeRepository.deleteAll();
+    }
+
+    @Test
+    void testConcurrentCreatesShareCommits() throws Exception {
+        List<CreateEmployeeRequest> requests = new ArrayList<>();
+        for (int i = 0; i < WRITERS - 2; i++) {
+            requests.add(new CreateEmployeeRequest("Employee " + i, "employee" + i + "@example.com", "90000000" + i));
+        }
+        // one email repeated within the burst, one already stored
+        requests.add(new CreateEmployeeRequest("Employee 0 again", "employee0@example.com"));
+        requests.add(new CreateEmployeeRequest("Aarav Again", "aarav.sharma@example.com"));
+
+        ExecutorService writers = Executors.newFixedThreadPool(WRITERS);
+        List<Future<EmployeeResponse>> results = new ArrayList<>();
+        try {
+            CyclicBarrier start = new CyclicBarrier(WRITERS);
+            for (CreateEmployeeRequest request : requests) {
+                results.add(writers.submit(() -> {
+                    start.await();
+                    return employeeService.createEmployee(request);
+                }));
+            }
+
+            int created = 0;
+            int duplicates = 0;
+            for (Future<EmployeeResponse> result : results) {
+                try {
+                    assertNotNull(result.get(30, TimeUnit.SECONDS).getId());
+                    created++;
+                } catch (ExecutionException e) {
+                    assertInstanceOf(DuplicateEmailException.class, e.getCause());
+                    duplicates++;
+                }
+            }
+            assertEquals(WRITERS - 2, created);
+            assertEquals(2, duplicates);
+        } finally {
+            writers.shutdownNow();
+        }
+
+        assertEquals(WRITERS - 1, employeeRepository.count());
+        verify(employeeBatchService, atMost(WRITERS / 4)).persistChunk(anyList());
+    }
+
+    @Test
+    void testCreateThatLosesTheRaceForAnEmailFailsAlone() throws Exception {
+        // the stored email slips past the existence check, as if it had been inserted concurrently
+        doReturn(List.of()).when(employeeRepository).findExistingEmails(anyCollection());
+        List<CreateEmployeeRequest> requests = List.of(
+                new CreateEmployeeRequest("Neha Verma", "neha.verma@example.com", "9123456780"),
+                new CreateEmployeeRequest("Aarav Again", "aarav.sharma@example.com"),
+                new CreateEmployeeRequest("Rohan Mehta", "rohan.mehta@example.com"));
+
+        ExecutorService writers = Executors.newFixedThreadPool(requests.size());
+        try {
+            CyclicBarrier start = new CyclicBarrier(requests.size());
+            List<Future<EmployeeResponse>> results = new ArrayList<>();
+            for (CreateEmployeeRequest request : requests) {
+                results.add(writers.submit(() -> {
+                    start.await();
+                    return employeeService.createEmployee(request);
+                }));
+            }
+
+            assertEquals("Neha Verma", results.get(0).get(30, TimeUnit.SECONDS).getName());
+            ExecutionException e = assertThrows(ExecutionException.class, () -> results.get(1).get(30, TimeUnit.SECONDS));
+            assertInstanceOf(DuplicateEmailException.class, e.getCause());
+            assertEquals("Rohan Mehta", results.get(2).get(30, TimeUnit.SECONDS).getName());
+        } finally {
+            writers.shutdownNow();
+        }
+
+        assertEquals(3, employeeRepository.count());
+    }
+}
@@ -6,7 +6,9 @@ import com.assignment.employee.dto.UpdateEmployeeRequest;
 import com.assignment.employee.dto.UpdatePhoneRequest;
 import com.assignment.employee.entity.Employee;
 import com.assignment.employee.repository.EmployeeRepository;
+import com.assignment.employee.service.EmployeeExportService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,6 +19,12 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -34,6 +42,9 @@ class EmployeeIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private EmployeeExportService employeeExportService;
+
     private Employee testEmployee;
 
     @BeforeEach
@@ -74,6 +85,21 @@ class EmployeeIntegrationTest {
                 .andExpect(jsonPath("$.name").value("Aarav Sharma"));
     }
 
+    @Test
+    void testGetEmployeeByEmailRoutesToAStrategy() throws Exception {
+        mockMvc.perform(get("/api/employees/email/aarav.sharma@example.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value("aarav.sharma@example.com"))
+                .andExpect(jsonPath("$.name").value("Aarav Sharma"));
+
+        mockMvc.perform(get("/api/diagnostics/routing"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.preferred").exists())
+                .andExpect(jsonPath("$.strategies.length()").value(3))
+                .andExpect(jsonPath("$.strategies[*].strategy").value(
+                        containsInAnyOrder("specifications", "hql", "native")));
+    }
+
     @Test
     void testGetEmployeeByEmailUsingHQL() throws Exception {
         mockMvc.perform(get("/api/employees/email/aarav.sharma@example.com/hql"))
@@ -82,6 +108,20 @@ class EmployeeIntegrationTest {
                 .andExpect(jsonPath("$.name").value("Aarav Sharma"));
     }
 
+    @Test
+    void testGetEmployeeByEmailNegotiatesWireFormat() throws Exception {
+        mockMvc.perform(get("/api/employees/email/aarav.sharma@example.com/hql").accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+
+        byte[] body = mockMvc.perform(get("/api/employees/email/aarav.sharma@example.com/hql")
+                        .accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertEquals("Aarav Sharma", new SmileMapper().readTree(body).get("name").asText());
+    }
+
     @Test
     void testGetEmployeeByEmailUsingNativeSQL() throws Exception {
         mockMvc.perform(get("/api/employees/email/aarav.sharma@example.com/native"))
@@ -90,6 +130,14 @@ class EmployeeIntegrationTest {
                 .andExpect(jsonPath("$.name").value("Aarav Sharma"));
     }
 
+    @Test
+    void testGetEmployeeByEmailUsingNaturalId() throws Exception {
+        mockMvc.perform(get("/api/employees/email/aarav.sharma@example.com/naturalid"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value("aarav.sharma@example.com"))
+                .andExpect(jsonPath("$.name").value("Aarav Sharma"));
+    }
+
     @Test
     void testGetEmployeeByNameUsingSpecifications() throws Exception {
         mockMvc.perform(get("/api/employees/name/Aarav Sharma/specifications"))
@@ -141,6 +189,89 @@ class EmployeeIntegrationTest {
                 .andExpect(jsonPath("$.phone").value("5554443333"));
     }
 
+    @Test
+    void testConditionalPhoneUpdate() throws Exception {
+        String etag = mockMvc.perform(get("/api/employees/email/aarav.sharma@example.com/hql"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0\""))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(patch("/api/employees/aarav.sharma@example.com/phone")
+                        .header("If-Match", etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UpdatePhoneRequest("5554443333"))))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(jsonPath("$.version").value(1));
+
+        // a second writer still holding the old ETag loses
+        mockMvc.perform(patch("/api/employees/aarav.sharma@example.com/phone")
+                        .header("If-Match", etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UpdatePhoneRequest("1112223333"))))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete("/api/employees/aarav.sharma@example.com").header("If-Match", etag))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete("/api/employees/notfound@example.com").header("If-Match", etag))
+                .andExpect(status().isNotFound());
+
+        assertEquals("5554443333",
+                employeeRepository.findResponseByEmailUsingHQL("aarav.sharma@example.com").orElseThrow().getPhone());
+    }
+
+    @Test
+    void testConditionalGet() throws Exception {
+        MvcResult first = mockMvc.perform(get("/api/employees/email/aarav.sharma@example.com/native"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn();
+        String etag = first.getResponse().getHeader("ETag");
+        String lastModified = first.getResponse().getHeader("Last-Modified");
+
+        mockMvc.perform(get("/api/employees/email/aarav.sharma@example.com/specifications").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag));
+        mockMvc.perform(get("/api/employees/name/Aarav Sharma/hql").header("If-Modified-Since", lastModified))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(patch("/api/employees/aarav.sharma@example.com/phone")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UpdatePhoneRequest("5554443333"))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/employees/email/aarav.sharma@example.com/hql").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.phone").value("5554443333"));
+        mockMvc.perform(get("/api/employees/email/notfound@example.com/hql").header("If-None-Match", etag))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testLookupEmployees() throws Exception {
+        employeeRepository.save(new Employee("Neha Verma", "neha.verma@example.com", "9123456780"));
+
+        mockMvc.perform(post("/api/employees/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"emails\":[\"neha.verma@example.com\",\"notfound@example.com\",\"aarav.sharma@example.com\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.found.length()").value(2))
+                .andExpect(jsonPath("$.found[0].name").value("Neha Verma"))
+                .andExpect(jsonPath("$.found[1].name").value("Aarav Sharma"))
+                .andExpect(jsonPath("$.missing[0]").value("notfound@example.com"));
+
+        mockMvc.perform(post("/api/employees/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"names\":[\"Aarav Sharma\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.found[0].email").value("aarav.sharma@example.com"))
+                .andExpect(jsonPath("$.missing").isEmpty());
+
+        mockMvc.perform(post("/api/employees/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void testDeleteEmployeeByEmail() throws Exception {
         mockMvc.perform(delete("/api/employees/aarav.sharma@example.com"))
@@ -157,6 +288,23 @@ class EmployeeIntegrationTest {
                 .andExpect(jsonPath("$.error").value("Not Found"));
     }
 
+    @Test
+    void testUnknownEmailIsShortCircuitedByBloomFilter() throws Exception {
+        MvcResult before = mockMvc.perform(get("/api/diagnostics/bloom")).andReturn();
+        long shortCircuited = objectMapper.readTree(before.getResponse().getContentAsString())
+                .get("shortCircuitedLookups").asLong();
+
+        mockMvc.perform(get("/api/employees/email/notfound@example.com/hql"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/employees/email/aarav.sharma@example.com/hql"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/diagnostics/bloom"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ready").value(true))
+                .andExpect(jsonPath("$.shortCircuitedLookups").value(shortCircuited + 1));
+    }
+
     @Test
     void testCreateEmployeeValidation() throws Exception {
         CreateEmployeeRequest request = new CreateEmployeeRequest();
@@ -170,5 +318,175 @@ class EmployeeIntegrationTest {
                 .andExpect(jsonPath("$.status").value(400))
                 .andExpect(jsonPath("$.error").value("Validation Failed"));
     }
-}
 
+    @Test
+    void testCreateEmployeesInBatch() throws Exception {
+        List<CreateEmployeeRequest> requests = List.of(
+                new CreateEmployeeRequest("Neha Verma", "neha.verma@example.com", "9123456780"),
+                new CreateEmployeeRequest("Aarav Sharma", "aarav.sharma@example.com", "9876543210"),
+                new CreateEmployeeRequest("", "invalid-email"),
+                new CreateEmployeeRequest("Neha V", "neha.verma@example.com"),
+                new CreateEmployeeRequest("Rohan Gupta", "rohan.gupta@example.com"));
+
+        mockMvc.perform(post("/api/employees/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.failed").value(3))
+                .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[0].employee.id").isNumber())
+                .andExpect(jsonPath("$.results[1].status").value("DUPLICATE_EMAIL"))
+                .andExpect(jsonPath("$.results[2].status").value("INVALID"))
+                .andExpect(jsonPath("$.results[3].status").value("DUPLICATE_EMAIL"))
+                .andExpect(jsonPath("$.results[4].status").value("CREATED"));
+
+        assertTrue(employeeRepository.findByEmailUsingHQL("rohan.gupta@example.com").isPresent());
+    }
+
+    @Test
+    void testImportEmployeesFromNdjson() throws Exception {
+        String body = "{\"name\":\"Neha Verma\",\"email\":\"neha.verma@example.com\",\"phone\":\"9123456780\"}\n"
+                + "{\"name\":\"Aarav Sharma\",\"email\":\"aarav.sharma@example.com\"}\n"
+                + "not json\n"
+                + "\n"
+                + "{\"name\":\"\",\"email\":\"invalid-email\"}\n"
+                + "{\"name\":\"Rohan Gupta\",\"email\":\"rohan.gupta@example.com\"}\n";
+
+        mockMvc.perform(post("/api/employees/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.format").value("ndjson"))
+                .andExpect(jsonPath("$.linesRead").value(5))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.rejected").value(3))
+                .andExpect(jsonPath("$.lastCommittedLine").value(6))
+                .andExpect(jsonPath("$.rejections[0].line").value(3))
+                .andExpect(jsonPath("$.rejections[1].line").value(5))
+                .andExpect(jsonPath("$.rejections[2].line").value(2));
+
+        assertTrue(employeeRepository.findByEmailUsingHQL("rohan.gupta@example.com").isPresent());
+    }
+
+    @Test
+    void testImportRejectsNullAndMalformedRecords() throws Exception {
+        mockMvc.perform(post("/api/employees/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("null\n{\"name\":\"Neha Verma\",\"email\":\"neha.verma@example.com\"}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.rejections[0].line").value(1));
+
+        String csv = "name,email,phone\n"
+                + "Rohan Gupta,rohan.gupta@example.com,9000000001\n"
+                + "Isha Rao,isha.rao@example.com,9000000002,extra\n"
+                + "Kabir Mehta,kabir.mehta@example.com,9000000003\n";
+        mockMvc.perform(post("/api/employees/import")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.linesRead").value(3))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.rejections[0].line").value(3))
+                .andExpect(jsonPath("$.lastCommittedLine").value(4));
+
+        assertFalse(employeeRepository.findByEmailUsingHQL("isha.rao@example.com").isPresent());
+        assertTrue(employeeRepository.findByEmailUsingHQL("kabir.mehta@example.com").isPresent());
+    }
+
+    @Test
+    void testImportEmployeesFromCsvResumingAfterLine() throws Exception {
+        String body = "name,email,phone\n"
+                + "Neha Verma,neha.verma@example.com,9123456780\n"
+                + "Rohan Gupta,rohan.gupta@example.com,9000000001\n"
+                + "Isha Rao,isha.rao@example.com,\n";
+
+        mockMvc.perform(post("/api/employees/import")
+                        .param("resumeAfterLine", "2")
+                        .contentType("text/csv")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.format").value("csv"))
+                .andExpect(jsonPath("$.linesRead").value(2))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.lastCommittedLine").value(4));
+
+        assertFalse(employeeRepository.findByEmailUsingHQL("neha.verma@example.com").isPresent());
+        assertTrue(employeeRepository.findByEmailUsingHQL("isha.rao@example.com").isPresent());
+    }
+
+    @Test
+    void testExportEmployees() throws Exception {
+        Employee second = new Employee("Neha Verma", "neha.verma@example.com", "9123456780");
+        employeeRepository.save(second);
+
+        FlushCountingOutputStream ndjson = new FlushCountingOutputStream();
+        assertEquals(2, employeeExportService.exportEmployees(ndjson, EmployeeExportService.Format.NDJSON));
+        // below the clear interval only closing the writer flushes
+        assertTrue(ndjson.flushes <= 1);
+        String[] lines = ndjson.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("aarav.sharma@example.com", objectMapper.readValue(lines[0], EmployeeResponse.class).getEmail());
+        assertEquals("neha.verma@example.com", objectMapper.readValue(lines[1], EmployeeResponse.class).getEmail());
+
+        FlushCountingOutputStream csv = new FlushCountingOutputStream();
+        employeeExportService.exportEmployees(csv, EmployeeExportService.Format.CSV);
+        assertTrue(csv.flushes <= 1);
+        String[] rows = csv.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals("id,name,lastName,email,phone,address", rows[0]);
+        assertTrue(rows[1].contains("aarav.sharma@example.com"));
+        assertEquals(3, rows.length);
+    }
+
+    @Test
+    void testListEmployeesWithKeysetCursor() throws Exception {
+        String[][] others = {
+                {"Neha Verma", "neha.verma@example.com", "Verma"},
+                {"Rohan Gupta", "rohan.gupta@example.com", null},
+                {"Isha Rao", "isha.rao@example.com", "Rao"},
+                {"Kabir Shah", "kabir.shah@example.com", null}
+        };
+        for (String[] other : others) {
+            Employee employee = new Employee(other[0], other[1]);
+            employee.setLastName(other[2]);
+            employeeRepository.save(employee);
+        }
+
+        List<String> emails = new ArrayList<>();
+        String cursor = null;
+        do {
+            var request = get("/api/employees").param("sort", "lastName").param("size", "2");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            MvcResult result = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn();
+            var page = objectMapper.readTree(result.getResponse().getContentAsString());
+            page.get("items").forEach(item -> emails.add(item.get("email").asText()));
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+        } while (cursor != null);
+
+        assertEquals(List.of("rohan.gupta@example.com", "kabir.shah@example.com", "isha.rao@example.com",
+                "aarav.sharma@example.com", "neha.verma@example.com"), emails);
+    }
+
+    @Test
+    void testListEmployeesRejectsUnindexedSort() throws Exception {
+        mockMvc.perform(get("/api/employees").param("sort", "address"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+    }
+
+    private static class FlushCountingOutputStream extends ByteArrayOutputStream {
+        private int flushes;
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.assignment.employee.integration;
+
+import com.assignment.employee.dto.UpdateEmployeeRequest;
+import com.assignment.employee.entity.Employee;
+import com.assignment.employee.repository.EmployeeRepository;
+import com.assignment.employee.service.EmployeeJsonCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "employee.json-cache.enabled=true")
+@AutoConfigureMockMvc
+class EmployeeJsonCacheIntegrationTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeJsonCache employeeJsonCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+        employeeJsonCache.invalidateAll();
+        employeeRepository.save(new Employee("Aarav Sharma", "aarav.sharma@example.com", "9876543210"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeRepository.deleteAll();
+    }
+
+    @Test
+    void testHotEmployeeIsServedFromEncodedBytes() throws Exception {
+        long hits = employeeJsonCache.stats().getHitCount();
+        String first = mockMvc.perform(get("/api/employees/email/aarav.sharma@example.com/hql"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0\""))
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(get("/api/employees/email/aarav.sharma@example.com/native"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json(first, true));
+
+        assertEquals(1, employeeJsonCache.stats().getHitCount() - hits);
+    }
+
+    @Test
+    void testUpdateAndDeleteInvalidateTheEncoding() throws Exception {
+        mockMvc.perform(get("/api/employees/email/aarav.sharma@example.com/hql"))
+                .andExpect(jsonPath("$.phone").value("9876543210"));
+
+        UpdateEmployeeRequest update = new UpdateEmployeeRequest();
+        update.setPhone("5554443333");
+        mockMvc.perform(put("/api/employees/aarav.sharma@example.com")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/employees/email/aarav.sharma@example.com/hql"))
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(jsonPath("$.phone").value("5554443333"));
+
+        mockMvc.perform(delete("/api/employees/aarav.sharma@example.com"))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/employees/email/aarav.sharma@example.com/hql"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,109 @@
+package com.assignment.employee.integration;
+
+import com.assignment.employee.entity.Employee;
+import com.assignment.employee.repository.EmployeeRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Deep keyset pages by last name must seek on the (last_name, id) index: H2's EXPLAIN ANALYZE
+ * of the SQL Hibernate generates should touch about a page of rows, not every row before it.
+ */
+@SpringBootTest(properties = {
+        "employee.cache.enabled=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+                "com.assignment.employee.integration.EmployeeKeysetPlanIntegrationTest$LastNamePages"
+})
+class EmployeeKeysetPlanIntegrationTest {
+    private static final int EMPLOYEES = 500;
+    private static final int PAGE = 10;
+    private static final Pattern SCAN_COUNT = Pattern.compile("scanCount: (\\d+)");
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Remembers the last SELECT that filters on last name.
+     */
+    public static class LastNamePages implements StatementInspector {
+        static volatile String lastSql;
+
+        @Override
+        public String inspect(String sql) {
+            if (sql.startsWith("select") && sql.contains("where e1_0.last_name")) {
+                lastSql = sql;
+            }
+            return sql;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < EMPLOYEES; i++) {
+            Employee employee = new Employee("Employee " + i, "employee" + i + "@example.com");
+            // every tenth employee has no last name
+            employee.setLastName(i % 10 == 0 ? null : String.format("Name%04d", i));
+            employees.add(employee);
+        }
+        employeeRepository.saveAll(employees);
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeRepository.deleteAll();
+    }
+
+    @Test
+    void testDeepPageAfterLastNameSeeks() {
+        Employee after = employeeRepository.findByEmailUsingHQL("employee451@example.com").orElseThrow();
+
+        List<Employee> page = employeeRepository.findPageAfterLastName(after.getLastName(), after.getId(), Limit.of(PAGE));
+
+        assertEquals("Name0452", page.get(0).getLastName());
+        assertSeeks(LastNamePages.lastSql, after.getLastName(), after.getLastName(), after.getId(), 0, PAGE);
+    }
+
+    @Test
+    void testPagesAroundTheNullLastNamesSeek() {
+        Employee lastNull = employeeRepository.findByEmailUsingHQL("employee490@example.com").orElseThrow();
+
+        List<Employee> nulls = employeeRepository.findPageAfterNullLastName(lastNull.getId(), Limit.of(PAGE));
+        assertTrue(nulls.isEmpty());
+        assertSeeks(LastNamePages.lastSql, lastNull.getId(), 0, PAGE);
+
+        List<Employee> named = employeeRepository.findFirstPageWithLastName(Limit.of(PAGE));
+        assertEquals("Name0001", named.get(0).getLastName());
+        assertSeeks(LastNamePages.lastSql, 0, PAGE);
+    }
+
+    /**
+     * {@code args} bind the SQL's parameters in order, ending with the offset and row limit
+     * Hibernate renders for a {@link Limit}.
+     */
+    private void assertSeeks(String sql, Object... args) {
+        assertNotNull(sql);
+        String plan = jdbcTemplate.queryForObject("EXPLAIN ANALYZE " + sql, String.class, args);
+        assertTrue(plan.contains("IDX_EMPLOYEES_LAST_NAME_ID:"), plan);
+        Matcher scanCount = SCAN_COUNT.matcher(plan);
+        assertTrue(scanCount.find(), plan);
+        assertTrue(Integer.parseInt(scanCount.group(1)) <= PAGE + 1, plan);
+    }
+}
@@ -0,0 +1,106 @@
+package com.assignment.employee.integration;
+
+import com.assignment.employee.entity.Employee;
+import com.assignment.employee.repository.EmployeeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "employee.cache.enabled=false")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("hibernate-stats")
+class EmployeeMetricsIntegrationTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+        employeeRepository.save(new Employee("Aarav Sharma", "aarav.sharma@example.com", "9876543210"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeRepository.deleteAll();
+    }
+
+    @Test
+    void testLookupsAreTimedByStrategyAndOutcome() throws Exception {
+        long found = count("getEmployeeByEmail", "hql", "found");
+        long notFound = count("getEmployeeByEmail", "native", "not_found");
+
+        mockMvc.perform(get("/api/employees/email/aarav.sharma@example.com/hql"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/employees/email/missing@example.com/native"))
+                .andExpect(status().isNotFound());
+
+        assertEquals(found + 1, count("getEmployeeByEmail", "hql", "found"));
+        assertEquals(notFound + 1, count("getEmployeeByEmail", "native", "not_found"));
+    }
+
+    @Test
+    void testAdaptiveLookupsAreTaggedWithTheRoutedStrategy() throws Exception {
+        long routed = routedCount();
+        long unrouted = count("getEmployeeByEmail", "none", "not_found");
+
+        mockMvc.perform(get("/api/employees/email/aarav.sharma@example.com"))
+                .andExpect(status().isOk());
+        // rejected by the bloom filter before the router is consulted
+        mockMvc.perform(get("/api/employees/email/missing@example.com"))
+                .andExpect(status().isNotFound());
+
+        assertEquals(routed + 1, routedCount());
+        assertEquals(unrouted + 1, count("getEmployeeByEmail", "none", "not_found"));
+        assertEquals(0, count("getEmployeeByEmail", "none", "found"));
+    }
+
+    @Test
+    void testPrometheusScrapeIncludesServiceHibernateAndPoolMetrics() throws Exception {
+        mockMvc.perform(get("/api/employees/email/aarav.sharma@example.com/specifications"))
+                .andExpect(status().isOk());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(scrape.contains("employee_service_seconds_bucket{"));
+        assertTrue(scrape.contains("operation=\"getEmployeeByEmail\""));
+        assertTrue(scrape.contains("strategy=\"specifications\""));
+        assertTrue(scrape.contains("hibernate_query_executions_total"));
+        assertTrue(scrape.contains("hibernate_entities_loads_total"));
+        assertTrue(scrape.contains("hibernate_flushes_total"));
+        assertTrue(scrape.contains("hikaricp_connections_active"));
+    }
+
+    private long routedCount() {
+        return count("getEmployeeByEmail", "hql", "found")
+                + count("getEmployeeByEmail", "native", "found")
+                + count("getEmployeeByEmail", "specifications", "found");
+    }
+
+    private long count(String operation, String strategy, String outcome) {
+        Timer timer = meterRegistry.find("employee.service")
+                .tags("operation", operation, "strategy", strategy, "outcome", outcome)
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
@@ -0,0 +1,78 @@
+package com.assignment.employee.integration;
+
+import com.assignment.employee.dto.EmployeeResponse;
+import com.assignment.employee.dto.UpdatePhoneRequest;
+import com.assignment.employee.entity.Employee;
+import com.assignment.employee.repository.EmployeeRepository;
+import com.assignment.employee.service.EmployeeService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "employee.cache.enabled=false")
+@ActiveProfiles("l2cache")
+class EmployeeSecondLevelCacheIntegrationTest {
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+        Employee employee = new Employee("Aarav Sharma", "aarav.sharma@example.com", "9876543210");
+        employeeRepository.save(employee);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        assertTrue(statistics.isStatisticsEnabled());
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeRepository.deleteAll();
+    }
+
+    @Test
+    void testRepeatedNaturalIdLookupsIssueNoSql() {
+        employeeService.getEmployeeByEmailUsingNaturalId("aarav.sharma@example.com");
+        statistics.clear();
+
+        for (int i = 0; i < 3; i++) {
+            EmployeeResponse response = employeeService.getEmployeeByEmailUsingNaturalId("aarav.sharma@example.com");
+            assertEquals("Aarav Sharma", response.getName());
+        }
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getNaturalIdCacheHitCount() > 0);
+        assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+    }
+
+    @Test
+    void testPhoneUpdateSkipsEntityLoadAndEvictsCache() {
+        employeeService.getEmployeeByEmailUsingNaturalId("aarav.sharma@example.com");
+        statistics.clear();
+
+        EmployeeResponse updated = employeeService.updateEmployeePhone(
+                "aarav.sharma@example.com", new UpdatePhoneRequest("5554443333"), null);
+
+        assertEquals("5554443333", updated.getPhone());
+        assertEquals(0, statistics.getEntityLoadCount());
+        // the UPDATE itself plus the projection read for the response body
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals("5554443333", employeeService.getEmployeeByEmailUsingNaturalId("aarav.sharma@example.com").getPhone());
+    }
+}
@@ -0,0 +1,93 @@
+package com.assignment.employee.integration;
+
+import com.assignment.employee.dto.EmployeeResponse;
+import com.assignment.employee.entity.Employee;
+import com.assignment.employee.repository.EmployeeRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static com.assignment.employee.repository.EmployeeSpecifications.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class EmployeeSpecificationQueryIntegrationTest {
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private QueryInterpretationCache interpretationCache;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+        Employee aarav = new Employee("Aarav Sharma", "aarav.sharma@example.com", "9876543210");
+        aarav.setLastName("Sharma");
+        employeeRepository.save(aarav);
+        Employee neha = new Employee("Neha Verma", "neha.verma@example.com", "9123456780");
+        neha.setLastName("Verma");
+        employeeRepository.save(neha);
+
+        interpretationCache = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getQueryEngine().getInterpretationCache();
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeRepository.deleteAll();
+    }
+
+    @Test
+    void testLookupsOfOneShapeReuseTheCompiledQueryPlan() {
+        assertEquals("Aarav Sharma", find(() -> employeeRepository.findResponse(hasEmail("aarav.sharma@example.com"))).getName());
+        int plans = interpretationCache.getNumberOfCachedQueryPlans();
+
+        assertEquals("Neha Verma", find(() -> employeeRepository.findResponse(hasEmail("neha.verma@example.com"))).getName());
+        assertNull(find(() -> employeeRepository.findResponse(hasEmail("missing@example.com"))));
+
+        assertEquals(plans, interpretationCache.getNumberOfCachedQueryPlans());
+    }
+
+    @Test
+    void testCompositeSpecificationsAreCompiledPerShape() {
+        int plans = interpretationCache.getNumberOfCachedQueryPlans();
+        assertEquals("Neha Verma", find(() -> employeeRepository.findResponse(
+                allOf(hasLastName("Verma"), anyOf(hasEmail("neha.verma@example.com"), hasPhone("0000000000"))))).getName());
+        assertEquals(plans + 1, interpretationCache.getNumberOfCachedQueryPlans());
+
+        assertEquals("Aarav Sharma", find(() -> employeeRepository.findResponse(
+                allOf(hasLastName("Sharma"), anyOf(hasEmail("nobody@example.com"), hasPhone("9876543210"))))).getName());
+        assertNull(find(() -> employeeRepository.findResponse(
+                allOf(hasLastName("Sharma"), anyOf(hasEmail("neha.verma@example.com"), hasPhone("9123456780"))))));
+
+        assertEquals(plans + 1, interpretationCache.getNumberOfCachedQueryPlans());
+    }
+
+    @Test
+    void testOtherSpecificationsStillWork() {
+        Specification<Employee> spec = (root, query, criteriaBuilder) ->
+                criteriaBuilder.equal(root.get("phone"), "9123456780");
+
+        assertEquals("neha.verma@example.com", find(() -> employeeRepository.findResponse(spec)).getEmail());
+        assertTrue(employeeRepository.findOne(hasName("Aarav Sharma")).isPresent());
+    }
+
+    private EmployeeResponse find(Supplier<Optional<EmployeeResponse>> query) {
+        return transactionTemplate.execute(status -> query.get().orElse(null));
+    }
+}
@@ -0,0 +1,81 @@
+package com.assignment.employee.integration;
+
+import com.assignment.employee.dto.UpdatePhoneRequest;
+import com.assignment.employee.entity.Employee;
+import com.assignment.employee.repository.EmployeeRepository;
+import com.assignment.employee.service.PhoneWriteBehindBuffer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "employee.write-behind.enabled=true",
+        // flushed explicitly below
+        "employee.write-behind.flush-interval=1h"
+})
+@AutoConfigureMockMvc
+class EmployeeWriteBehindIntegrationTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private PhoneWriteBehindBuffer phoneWriteBehindBuffer;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+        employeeRepository.save(new Employee("Aarav Sharma", "aarav.sharma@example.com", "9876543210"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeRepository.deleteAll();
+    }
+
+    @Test
+    void testPhoneBurstIsAcknowledgedAndWrittenOnce() throws Exception {
+        long flushedBefore = phoneWriteBehindBuffer.stats().getFlushed();
+        for (String phone : new String[]{"9000000001", "9000000002", "9000000003"}) {
+            mockMvc.perform(patch("/api/employees/aarav.sharma@example.com/phone")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new UpdatePhoneRequest(phone))))
+                    .andExpect(status().isAccepted());
+        }
+        mockMvc.perform(get("/api/employees/email/aarav.sharma@example.com/hql"))
+                .andExpect(jsonPath("$.phone").value("9876543210"));
+
+        phoneWriteBehindBuffer.flush();
+
+        assertEquals(1, phoneWriteBehindBuffer.stats().getFlushed() - flushedBefore);
+        mockMvc.perform(get("/api/employees/email/aarav.sharma@example.com/hql"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(jsonPath("$.phone").value("9000000003"));
+    }
+
+    @Test
+    void testConditionalPhoneUpdateStaysSynchronous() throws Exception {
+        mockMvc.perform(patch("/api/employees/aarav.sharma@example.com/phone")
+                        .header("If-Match", "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UpdatePhoneRequest("9000000009"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.phone").value("9000000009"));
+    }
+}
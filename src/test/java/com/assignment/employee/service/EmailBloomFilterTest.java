@@ -0,0 +1,80 @@
+package com.assignment.employee.service;
+
+import com.assignment.employee.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmailBloomFilterTest {
+    private EmailBloomFilter emailBloomFilter;
+
+    @BeforeEach
+    void setUp() {
+        EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
+        when(employeeRepository.streamAllEmails()).thenReturn(Stream.of("aarav.sharma@example.com"));
+
+        emailBloomFilter = new EmailBloomFilter(true, 10_000, 0.01);
+        ReflectionTestUtils.setField(emailBloomFilter, "employeeRepository", employeeRepository);
+    }
+
+    @Test
+    void testEverythingMightExistUntilBuilt() {
+        assertTrue(emailBloomFilter.mightContain("notfound@example.com"));
+        assertEquals(0, emailBloomFilter.stats().getShortCircuitedLookups());
+    }
+
+    @Test
+    void testBuildLoadsExistingEmails() {
+        emailBloomFilter.build();
+
+        assertTrue(emailBloomFilter.mightContain("aarav.sharma@example.com"));
+        assertTrue(emailBloomFilter.stats().isReady());
+        assertEquals(1, emailBloomFilter.stats().getInsertions());
+    }
+
+    @Test
+    void testInsertedEmailsAreNeverReportedAbsent() {
+        emailBloomFilter.build();
+        for (int i = 0; i < 10_000; i++) {
+            emailBloomFilter.put("employee" + i + "@example.com");
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(emailBloomFilter.mightContain("employee" + i + "@example.com"));
+        }
+    }
+
+    @Test
+    void testFalsePositiveRateStaysNearTarget() {
+        emailBloomFilter.build();
+        for (int i = 0; i < 10_000; i++) {
+            emailBloomFilter.put("employee" + i + "@example.com");
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (emailBloomFilter.mightContain("missing" + i + "@example.com")) {
+                falsePositives++;
+                emailBloomFilter.recordFalsePositive();
+            }
+        }
+
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+        assertEquals(10_000 - falsePositives, emailBloomFilter.stats().getShortCircuitedLookups());
+        assertEquals(falsePositives / 10_000.0, emailBloomFilter.stats().getObservedFalsePositiveRate(), 1e-9);
+    }
+
+    @Test
+    void testDisabledFilterNeverShortCircuits() {
+        EmailBloomFilter disabled = new EmailBloomFilter(false, 10_000, 0.01);
+        disabled.build();
+
+        assertTrue(disabled.mightContain("notfound@example.com"));
+    }
+}
@@ -0,0 +1,124 @@
+package com.assignment.employee.service;
+
+import com.assignment.employee.dto.EmployeeResponse;
+import com.assignment.employee.repository.EmployeeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class EmailLookupBatcherTest {
+    private final List<Set<String>> batches = new CopyOnWriteArrayList<>();
+    private EmployeeRepository employeeRepository;
+    private EmailLookupBatcher emailLookupBatcher;
+    private ExecutorService callers;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        employeeRepository = mock(EmployeeRepository.class);
+        when(employeeRepository.findResponsesByEmailIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> emails = invocation.getArgument(0);
+            batches.add(Set.copyOf(emails));
+            return emails.stream()
+                    .filter(email -> !email.startsWith("missing"))
+                    .map(email -> new EmployeeResponse(1L, "Employee", null, email, null, null, 0L, null))
+                    .collect(Collectors.toList());
+        });
+
+        // a wide window so that every caller below lands in the same batch
+        emailLookupBatcher = new EmailLookupBatcher(true, Duration.ofMillis(500), 8, 1, Duration.ofSeconds(2));
+        ReflectionTestUtils.setField(emailLookupBatcher, "employeeRepository", employeeRepository);
+        ReflectionTestUtils.setField(emailLookupBatcher, "transactionManager", mock(PlatformTransactionManager.class));
+        emailLookupBatcher.start();
+        callers = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        emailLookupBatcher.stop();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void testConcurrentLookupsShareOneInQuery() throws Exception {
+        List<String> emails = List.of("a@example.com", "b@example.com", "a@example.com", "missing@example.com");
+        List<Future<EmployeeResponse>> results = new ArrayList<>();
+        for (String email : emails) {
+            results.add(callers.submit(() -> emailLookupBatcher.lookup(email)));
+        }
+
+        assertEquals("a@example.com", results.get(0).get(5, TimeUnit.SECONDS).getEmail());
+        assertEquals("b@example.com", results.get(1).get(5, TimeUnit.SECONDS).getEmail());
+        assertEquals("a@example.com", results.get(2).get(5, TimeUnit.SECONDS).getEmail());
+        assertNull(results.get(3).get(5, TimeUnit.SECONDS));
+        assertEquals(List.of(Set.of("a@example.com", "b@example.com", "missing@example.com")), batches);
+    }
+
+    @Test
+    void testBatchIsCappedAtMaxSize() throws Exception {
+        List<Future<EmployeeResponse>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            String email = "employee" + i + "@example.com";
+            results.add(callers.submit(() -> emailLookupBatcher.lookup(email)));
+        }
+        for (Future<EmployeeResponse> result : results) {
+            assertNotNull(result.get(5, TimeUnit.SECONDS));
+        }
+        for (int i = 8; i < 10; i++) {
+            assertNotNull(emailLookupBatcher.lookup("employee" + i + "@example.com"));
+        }
+        assertEquals(8, batches.get(0).size());
+        assertEquals(10, batches.stream().mapToInt(Set::size).sum());
+    }
+
+    @Test
+    void testQueryFailureReachesEveryCaller() {
+        when(employeeRepository.findResponsesByEmailIn(anyCollection())).thenThrow(new IllegalStateException("down"));
+
+        assertThrows(IllegalStateException.class, () -> emailLookupBatcher.lookup("a@example.com"));
+    }
+
+    @Test
+    void testStopFailsTheBatchBeingGathered() throws Exception {
+        Future<EmployeeResponse> gathered = callers.submit(() -> emailLookupBatcher.lookup("a@example.com"));
+        // inside the 500ms window, so the lookup has been taken off the queue but not dispatched
+        Thread.sleep(100);
+
+        emailLookupBatcher.stop();
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> gathered.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, failure.getCause());
+        assertTrue(batches.isEmpty());
+    }
+
+    @Test
+    void testCallerGivesUpWhenTheBatchDoesNotComplete() {
+        CountDownLatch release = new CountDownLatch(1);
+        when(employeeRepository.findResponsesByEmailIn(anyCollection())).thenAnswer(invocation -> {
+            release.await();
+            return List.of();
+        });
+
+        try {
+            IllegalStateException failure = assertThrows(IllegalStateException.class,
+                    () -> emailLookupBatcher.lookup("a@example.com"));
+            assertEquals("Email lookup batch did not complete in time", failure.getMessage());
+        } finally {
+            release.countDown();
+        }
+    }
+}
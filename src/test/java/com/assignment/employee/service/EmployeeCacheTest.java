@@ -0,0 +1,88 @@
+package com.assignment.employee.service;
+
+import com.assignment.employee.dto.EmployeeResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeCacheTest {
+    private EmployeeCache employeeCache;
+    private EmployeeResponse response;
+
+    @BeforeEach
+    void setUp() {
+        employeeCache = new EmployeeCache(true, 100, Duration.ofMinutes(1));
+        response = new EmployeeResponse();
+        response.setId(1L);
+        response.setEmail("aarav.sharma@example.com");
+    }
+
+    @Test
+    void testLoadsOnceThenServesFromCache() {
+        AtomicInteger loads = new AtomicInteger();
+
+        employeeCache.get("aarav.sharma@example.com", () -> {
+            loads.incrementAndGet();
+            return response;
+        });
+        EmployeeResponse cached = employeeCache.get("aarav.sharma@example.com", () -> {
+            loads.incrementAndGet();
+            return response;
+        });
+
+        assertSame(response, cached);
+        assertEquals(1, loads.get());
+        assertEquals(1, employeeCache.stats().getHitCount());
+        assertEquals(1, employeeCache.stats().getMissCount());
+    }
+
+    @Test
+    void testNotFoundIsNotCached() {
+        assertNull(employeeCache.get("notfound@example.com", () -> null));
+        assertEquals(0, employeeCache.stats().getSize());
+    }
+
+    @Test
+    void testInvalidateForcesReload() {
+        employeeCache.get("aarav.sharma@example.com", () -> response);
+        employeeCache.invalidate("aarav.sharma@example.com");
+
+        EmployeeResponse updated = new EmployeeResponse();
+        updated.setEmail("aarav.sharma@example.com");
+        updated.setPhone("5554443333");
+
+        assertSame(updated, employeeCache.get("aarav.sharma@example.com", () -> updated));
+    }
+
+    @Test
+    void testLoadRacingWithWriteIsNotCached() {
+        EmployeeResponse stale = employeeCache.get("aarav.sharma@example.com", () -> {
+            employeeCache.invalidate("aarav.sharma@example.com");
+            return response;
+        });
+
+        assertSame(response, stale);
+        assertEquals(0, employeeCache.stats().getSize());
+    }
+
+    @Test
+    void testDisabledCacheAlwaysLoads() {
+        EmployeeCache disabled = new EmployeeCache(false, 100, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        disabled.get("aarav.sharma@example.com", () -> {
+            loads.incrementAndGet();
+            return response;
+        });
+        disabled.get("aarav.sharma@example.com", () -> {
+            loads.incrementAndGet();
+            return response;
+        });
+
+        assertEquals(2, loads.get());
+    }
+}
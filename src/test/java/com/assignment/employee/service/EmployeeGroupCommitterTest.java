@@ -0,0 +1,131 @@
+package com.assignment.employee.service;
+
+import com.assignment.employee.dto.BatchItemResult;
+import com.assignment.employee.dto.CreateEmployeeRequest;
+import com.assignment.employee.dto.EmployeeResponse;
+import com.assignment.employee.exception.DuplicateEmailException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class EmployeeGroupCommitterTest {
+    private final List<List<String>> groups = new CopyOnWriteArrayList<>();
+    private EmployeeBatchService employeeBatchService;
+    private EmployeeGroupCommitter employeeGroupCommitter;
+    private ExecutorService callers;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        employeeBatchService = mock(EmployeeBatchService.class);
+        when(employeeBatchService.persistChunk(anyList())).thenAnswer(invocation -> {
+            List<EmployeeBatchService.IndexedRequest> chunk = invocation.getArgument(0);
+            if (chunk.get(0).request().getEmail().startsWith("broken")) {
+                throw new AssertionError("driver bug");
+            }
+            if (chunk.get(0).request().getEmail().startsWith("slow")) {
+                TimeUnit.MILLISECONDS.sleep(500);
+            }
+            groups.add(chunk.stream().map(item -> item.request().getEmail()).toList());
+            List<BatchItemResult> results = new ArrayList<>();
+            for (EmployeeBatchService.IndexedRequest item : chunk) {
+                String email = item.request().getEmail();
+                results.add(email.startsWith("taken")
+                        ? BatchItemResult.failed(item.index(), email, BatchItemResult.Status.DUPLICATE_EMAIL, List.of())
+                        : BatchItemResult.created(item.index(),
+                                new EmployeeResponse(1L + item.index(), item.request().getName(), null, email, null, null, 0L, null)));
+            }
+            return results;
+        });
+
+        // a wide linger so that every caller below lands in the same group
+        employeeGroupCommitter = startCommitter(Duration.ofMillis(500), Duration.ofSeconds(5));
+        callers = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeGroupCommitter.stop();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void testConcurrentCreatesCommitTogetherWithTheirOwnOutcome() throws Exception {
+        Future<EmployeeResponse> first = create("Neha Verma", "neha.verma@example.com");
+        // let the first create for this email join the group before the repeated one
+        TimeUnit.MILLISECONDS.sleep(50);
+        Future<EmployeeResponse> repeated = create("Neha Again", "neha.verma@example.com");
+        Future<EmployeeResponse> taken = create("Taken", "taken@example.com");
+        Future<EmployeeResponse> second = create("Rohan Mehta", "rohan.mehta@example.com");
+
+        assertEquals("Neha Verma", first.get(5, TimeUnit.SECONDS).getName());
+        assertEquals("Rohan Mehta", second.get(5, TimeUnit.SECONDS).getName());
+        assertDuplicate(repeated);
+        assertDuplicate(taken);
+        assertEquals(1, groups.size());
+        assertEquals(3, groups.get(0).size());
+    }
+
+    @Test
+    void testStopFailsTheGroupBeingGathered() throws Exception {
+        Future<EmployeeResponse> gathered = create("Neha Verma", "neha.verma@example.com");
+        // inside the linger window: taken from the queue but not committed yet
+        TimeUnit.MILLISECONDS.sleep(50);
+
+        employeeGroupCommitter.stop();
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> gathered.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+        assertTrue(groups.isEmpty());
+    }
+
+    @Test
+    void testErrorFailsOnlyItsGroupAndTheCommitterCarriesOn() throws Exception {
+        Future<EmployeeResponse> broken = create("Broken", "broken@example.com");
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> broken.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+        assertInstanceOf(AssertionError.class, e.getCause().getCause());
+
+        Future<EmployeeResponse> next = create("Rohan Mehta", "rohan.mehta@example.com");
+        assertEquals("Rohan Mehta", next.get(5, TimeUnit.SECONDS).getName());
+    }
+
+    @Test
+    void testCallerGivesUpAfterTheTimeout() throws Exception {
+        employeeGroupCommitter.stop();
+        employeeGroupCommitter = startCommitter(Duration.ofMillis(1), Duration.ofMillis(100));
+
+        Future<EmployeeResponse> slow = create("Slow", "slow@example.com");
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> slow.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+        assertTrue(e.getCause().getMessage().contains("in time"));
+    }
+
+    private EmployeeGroupCommitter startCommitter(Duration linger, Duration timeout) {
+        EmployeeGroupCommitter committer = new EmployeeGroupCommitter(true, linger, 8, timeout);
+        ReflectionTestUtils.setField(committer, "employeeBatchService", employeeBatchService);
+        committer.start();
+        return committer;
+    }
+
+    private Future<EmployeeResponse> create(String name, String email) {
+        return callers.submit(() -> employeeGroupCommitter.create(new CreateEmployeeRequest(name, email)));
+    }
+
+    private static void assertDuplicate(Future<EmployeeResponse> result) {
+        ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(DuplicateEmailException.class, e.getCause());
+    }
+}
@@ -0,0 +1,90 @@
+package com.assignment.employee.service;
+
+import com.assignment.employee.dto.EmployeeResponse;
+import com.assignment.employee.exception.EmployeeNotFoundException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeJsonCacheTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private EmployeeJsonCache employeeJsonCache;
+    private EmployeeResponse response;
+
+    @BeforeEach
+    void setUp() {
+        employeeJsonCache = new EmployeeJsonCache(objectMapper, true, 100, Duration.ofMinutes(1));
+        response = new EmployeeResponse();
+        response.setId(1L);
+        response.setName("Aarav Sharma");
+        response.setEmail("aarav.sharma@example.com");
+        response.setVersion(2L);
+    }
+
+    @Test
+    void testEncodesOnceThenServesTheSameBytes() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+
+        EmployeeJsonCache.Entry first = employeeJsonCache.get("aarav.sharma@example.com", () -> {
+            loads.incrementAndGet();
+            return response;
+        });
+        EmployeeJsonCache.Entry second = employeeJsonCache.get("aarav.sharma@example.com", () -> {
+            loads.incrementAndGet();
+            return response;
+        });
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertArrayEquals(objectMapper.writeValueAsBytes(response), first.getJson());
+        assertEquals(2L, first.getVersion());
+        assertEquals(1, employeeJsonCache.stats().getHitCount());
+    }
+
+    @Test
+    void testInvalidateForcesReencoding() {
+        employeeJsonCache.get("aarav.sharma@example.com", () -> response);
+        employeeJsonCache.invalidate("aarav.sharma@example.com");
+
+        EmployeeResponse updated = new EmployeeResponse();
+        updated.setEmail("aarav.sharma@example.com");
+        updated.setPhone("5554443333");
+        updated.setVersion(3L);
+
+        assertEquals(3L, employeeJsonCache.get("aarav.sharma@example.com", () -> updated).getVersion());
+    }
+
+    @Test
+    void testLoadRacingWithWriteIsNotCached() {
+        employeeJsonCache.get("aarav.sharma@example.com", () -> {
+            employeeJsonCache.invalidate("aarav.sharma@example.com");
+            return response;
+        });
+
+        assertEquals(0, employeeJsonCache.stats().getSize());
+    }
+
+    @Test
+    void testNotFoundPropagatesAndIsNotCached() {
+        assertThrows(EmployeeNotFoundException.class, () -> employeeJsonCache.get("missing@example.com", () -> {
+            throw EmployeeNotFoundException.byEmail("missing@example.com");
+        }));
+        assertEquals(0, employeeJsonCache.stats().getSize());
+    }
+
+    @Test
+    void testDisabledCacheAlwaysEncodes() {
+        EmployeeJsonCache disabled = new EmployeeJsonCache(objectMapper, false, 100, Duration.ofMinutes(1));
+
+        EmployeeJsonCache.Entry first = disabled.get("aarav.sharma@example.com", () -> response);
+        EmployeeJsonCache.Entry second = disabled.get("aarav.sharma@example.com", () -> response);
+
+        assertNotSame(first, second);
+        assertArrayEquals(first.getJson(), second.getJson());
+    }
+}
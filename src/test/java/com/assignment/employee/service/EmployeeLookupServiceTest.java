@@ -0,0 +1,64 @@
+package com.assignment.employee.service;
+
+import com.assignment.employee.dto.EmployeeLookupRequest;
+import com.assignment.employee.dto.EmployeeLookupResponse;
+import com.assignment.employee.dto.EmployeeResponse;
+import com.assignment.employee.exception.InvalidRequestException;
+import com.assignment.employee.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class EmployeeLookupServiceTest {
+    private EmployeeRepository employeeRepository;
+    private EmployeeLookupService employeeLookupService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        employeeRepository = mock(EmployeeRepository.class);
+        // every email except the ones starting with "missing" exists
+        when(employeeRepository.findResponsesByEmailIn(anyCollection())).thenAnswer(invocation ->
+                ((Collection<String>) invocation.getArgument(0)).stream()
+                        .filter(email -> !email.startsWith("missing"))
+                        .map(email -> new EmployeeResponse(1L, "Employee", null, email, null, null, 0L, null))
+                        .collect(Collectors.toList()));
+
+        employeeLookupService = new EmployeeLookupService();
+        ReflectionTestUtils.setField(employeeLookupService, "employeeRepository", employeeRepository);
+        ReflectionTestUtils.setField(employeeLookupService, "chunkSize", 2);
+        ReflectionTestUtils.setField(employeeLookupService, "maxSize", 10);
+    }
+
+    @Test
+    void testResolvesInChunksAndKeepsRequestOrder() {
+        EmployeeLookupResponse response = employeeLookupService.lookupEmployees(EmployeeLookupRequest.byEmails(
+                List.of("c@example.com", "missing@example.com", "a@example.com", "c@example.com", "b@example.com")));
+
+        assertEquals(List.of("c@example.com", "a@example.com", "b@example.com"),
+                response.getFound().stream().map(EmployeeResponse::getEmail).collect(Collectors.toList()));
+        assertEquals(List.of("missing@example.com"), response.getMissing());
+        // four distinct keys in chunks of two
+        verify(employeeRepository, times(2)).findResponsesByEmailIn(anyCollection());
+    }
+
+    @Test
+    void testRejectsOversizedOrAmbiguousRequests() {
+        EmployeeLookupRequest both = EmployeeLookupRequest.byEmails(List.of("a@example.com"));
+        both.setNames(List.of("Aarav Sharma"));
+
+        assertThrows(InvalidRequestException.class, () -> employeeLookupService.lookupEmployees(both));
+        assertThrows(InvalidRequestException.class, () -> employeeLookupService.lookupEmployees(new EmployeeLookupRequest()));
+        assertThrows(InvalidRequestException.class, () -> employeeLookupService.lookupEmployees(
+                EmployeeLookupRequest.byEmails(List.of("1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11"))));
+        verifyNoInteractions(employeeRepository);
+    }
+}
@@ -0,0 +1,125 @@
+package com.assignment.employee.service;
+
+import com.assignment.employee.dto.RoutingStatsResponse;
+import com.assignment.employee.dto.RoutingStrategyStats;
+import com.assignment.employee.service.EmployeeQueryRouter.Strategy;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeQueryRouterTest {
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void testUnmeasuredStrategiesAreTriedFirst() {
+        EmployeeQueryRouter router = new EmployeeQueryRouter(0.0, Duration.ofSeconds(30), 2, clock::get);
+
+        Map<Strategy, Integer> chosen = new EnumMap<>(Strategy.class);
+        for (int i = 0; i < 6; i++) {
+            Strategy strategy = router.choose();
+            chosen.merge(strategy, 1, Integer::sum);
+            router.record(strategy, micros(500));
+        }
+
+        assertEquals(Map.of(Strategy.SPECIFICATIONS, 2, Strategy.HQL, 2, Strategy.NATIVE, 2), chosen);
+    }
+
+    @Test
+    void testFastestStrategyBecomesPreferred() {
+        EmployeeQueryRouter router = new EmployeeQueryRouter(0.0, Duration.ofSeconds(30), 5, clock::get);
+
+        measure(router, micros(900), micros(600), micros(200));
+
+        assertEquals(Strategy.NATIVE, router.getPreferred());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Strategy.NATIVE, router.choose());
+        }
+    }
+
+    @Test
+    void testExplorationSendsASmallShareElsewhere() {
+        EmployeeQueryRouter router = new EmployeeQueryRouter(0.1, Duration.ofSeconds(30), 5, clock::get);
+        measure(router, micros(900), micros(200), micros(600));
+
+        int explored = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (router.choose() != Strategy.HQL) {
+                explored++;
+            }
+        }
+
+        assertTrue(explored > 700 && explored < 1300, "explored " + explored);
+    }
+
+    @Test
+    void testOldSamplesDecaySoTheRouterFollowsAChange() {
+        EmployeeQueryRouter router = new EmployeeQueryRouter(0.0, Duration.ofSeconds(1), 5, clock::get);
+        measure(router, micros(900), micros(200), micros(600));
+        assertEquals(Strategy.HQL, router.getPreferred());
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        measure(router, micros(900), micros(1500), micros(600));
+
+        assertEquals(Strategy.NATIVE, router.getPreferred());
+        RoutingStatsResponse stats = router.stats();
+        assertEquals("native", stats.getPreferred());
+        assertEquals(1, stats.getSwitches());
+        RoutingStrategyStats hql = stats.getStrategies().get(Strategy.HQL.ordinal());
+        // the second round spans two half-lives (sum of 2^-0.1k, k < 20); the first has faded out
+        assertEquals(11.2, hql.getWeight(), 0.1);
+        assertTrue(hql.getP50Millis() >= 1.5 && hql.getP50Millis() < 1.8, "p50 " + hql.getP50Millis());
+    }
+
+    @Test
+    void testLowTrafficStaysOnThePreferredStrategy() {
+        EmployeeQueryRouter router = new EmployeeQueryRouter(0.05, Duration.ofSeconds(30), 10, clock::get);
+        measure(router, micros(900), micros(200), micros(600));
+
+        // one load a second: the others decay below min-samples and only exploration measures them
+        int explored = 0;
+        for (int i = 0; i < 2_000; i++) {
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+            Strategy strategy = router.choose();
+            if (strategy != Strategy.HQL) {
+                explored++;
+            }
+            router.record(strategy, strategy == Strategy.HQL ? micros(200) : micros(900));
+        }
+
+        assertEquals(Strategy.HQL, router.getPreferred());
+        assertTrue(explored > 50 && explored < 160, "explored " + explored);
+    }
+
+    @Test
+    void testFailedLoadsAreNotRecorded() {
+        EmployeeQueryRouter router = new EmployeeQueryRouter(0.0, Duration.ofSeconds(30), 5, clock::get);
+
+        assertThrows(IllegalStateException.class, () -> router.time(Strategy.HQL, () -> {
+            throw new IllegalStateException("connection refused");
+        }));
+
+        assertEquals(0, router.stats().getStrategies().get(Strategy.HQL.ordinal()).getWeight());
+    }
+
+    /**
+     * Records twenty samples per strategy, spaced out so that each round gets an evaluation.
+     */
+    private void measure(EmployeeQueryRouter router, long specifications, long hql, long nativeSql) {
+        for (int i = 0; i < 20; i++) {
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+            router.record(Strategy.SPECIFICATIONS, specifications);
+            router.record(Strategy.HQL, hql);
+            router.record(Strategy.NATIVE, nativeSql);
+        }
+    }
+
+    private static long micros(long micros) {
+        return TimeUnit.MICROSECONDS.toNanos(micros);
+    }
+}
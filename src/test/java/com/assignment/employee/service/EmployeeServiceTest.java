@@ -5,20 +5,30 @@ import com.assignment.employee.dto.EmployeeResponse;
 import com.assignment.employee.dto.UpdateEmployeeRequest;
 import com.assignment.employee.dto.UpdatePhoneRequest;
 import com.assignment.employee.entity.Employee;
+import com.assignment.employee.exception.DuplicateEmailException;
+import com.assignment.employee.exception.EmployeeNotFoundException;
+import com.assignment.employee.exception.VersionConflictException;
 import com.assignment.employee.repository.EmployeeRepository;
 import com.assignment.employee.repository.EmployeeSpecifications;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,10 +36,39 @@ class EmployeeServiceTest {
     @Mock
     private EmployeeRepository employeeRepository;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private EmployeeCache employeeCache = new EmployeeCache(false, 100, Duration.ofMinutes(1));
+
+    @Spy
+    private EmployeeJsonCache employeeJsonCache = new EmployeeJsonCache(new ObjectMapper(), false, 100, Duration.ofMinutes(1));
+
+    @Spy
+    private EmailBloomFilter emailBloomFilter = new EmailBloomFilter(false, 100, 0.01);
+
+    @Spy
+    private RequestCoalescer requestCoalescer = new RequestCoalescer(true);
+
+    @Spy
+    private EmailLookupBatcher emailLookupBatcher = new EmailLookupBatcher(false, Duration.ofMillis(1), 64, 1, Duration.ofSeconds(5));
+
+    @Spy
+    private PhoneWriteBehindBuffer phoneWriteBehindBuffer =
+            new PhoneWriteBehindBuffer(false, Duration.ofMillis(200), 500, 10, Duration.ofSeconds(1), "memory", Path.of("unused"));
+
+    @Spy
+    private EmployeeGroupCommitter employeeGroupCommitter = new EmployeeGroupCommitter(false, Duration.ofMillis(2), 64, Duration.ofSeconds(5));
+
+    @Spy
+    private EmployeeQueryRouter employeeQueryRouter = new EmployeeQueryRouter(0.05, Duration.ofSeconds(30), 20);
+
     @InjectMocks
     private EmployeeService employeeService;
 
     private Employee employee;
+    private EmployeeResponse employeeResponse;
     private CreateEmployeeRequest createRequest;
 
     @BeforeEach
@@ -39,6 +78,8 @@ class EmployeeServiceTest {
         employee.setLastName("Sharma");
         employee.setAddress("DLF Phase 3, Gurugram");
 
+        employeeResponse = EmployeeService.mapToResponse(employee);
+
         createRequest = new CreateEmployeeRequest("Aarav Sharma", "aarav.sharma@example.com", "9876543210");
     }
 
@@ -55,84 +96,121 @@ class EmployeeServiceTest {
         verify(employeeRepository, times(1)).save(any(Employee.class));
     }
 
+    @Test
+    void testCreateEmployeeWithTakenEmail() {
+        when(employeeRepository.save(any(Employee.class))).thenThrow(new DataIntegrityViolationException("unique"));
+        when(employeeRepository.existsByEmail("aarav.sharma@example.com")).thenReturn(true);
+
+        DuplicateEmailException exception = assertThrows(DuplicateEmailException.class,
+                () -> employeeService.createEmployee(createRequest));
+        assertEquals("Employee already exists with email: aarav.sharma@example.com", exception.getMessage());
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     void testGetEmployeeByEmailUsingSpecifications() {
         Specification<Employee> spec = EmployeeSpecifications.hasEmail("aarav.sharma@example.com");
-        when(employeeRepository.findOne(any(Specification.class))).thenReturn(Optional.of(employee));
+        when(employeeRepository.findResponse(any(Specification.class))).thenReturn(Optional.of(employeeResponse));
 
         EmployeeResponse response = employeeService.getEmployeeByEmailUsingSpecifications("aarav.sharma@example.com");
 
         assertNotNull(response);
         assertEquals("aarav.sharma@example.com", response.getEmail());
-        verify(employeeRepository, times(1)).findOne(any(Specification.class));
+        verify(employeeRepository, times(1)).findResponse(any(Specification.class));
     }
 
     @Test
+    @SuppressWarnings("unchecked")
     void testGetEmployeeByEmailUsingSpecificationsNotFound() {
-        Specification<Employee> spec = EmployeeSpecifications.hasEmail("notfound@example.com");
-        when(employeeRepository.findOne(spec)).thenReturn(Optional.empty());
+        when(employeeRepository.findResponse(any(Specification.class))).thenReturn(Optional.empty());
 
-        assertThrows(RuntimeException.class, () -> {
+        EmployeeNotFoundException ex = assertThrows(EmployeeNotFoundException.class, () -> {
             employeeService.getEmployeeByEmailUsingSpecifications("notfound@example.com");
         });
+        assertEquals("Employee not found with email: notfound@example.com", ex.getMessage());
+        assertEquals(0, ex.getStackTrace().length);
+    }
+
+    @Test
+    void testGetEmployeeByEmailUsesTheRoutedStrategy() {
+        doReturn(EmployeeQueryRouter.Strategy.NATIVE).when(employeeQueryRouter).choose();
+        when(employeeRepository.findResponseByEmailUsingNativeSQL("aarav.sharma@example.com")).thenReturn(Optional.of(employeeResponse));
+
+        EmployeeResponse response = employeeService.getEmployeeByEmail("aarav.sharma@example.com");
+
+        assertEquals("aarav.sharma@example.com", response.getEmail());
+        verify(employeeRepository, never()).findResponseByEmailUsingHQL(anyString());
+        assertEquals(1, employeeQueryRouter.stats().getStrategies().stream()
+                .filter(stats -> stats.getStrategy().equals("native"))
+                .findFirst().orElseThrow().getWeight(), 0.01);
     }
 
     @Test
     void testGetEmployeeByEmailUsingHQL() {
-        when(employeeRepository.findByEmailUsingHQL("aarav.sharma@example.com")).thenReturn(Optional.of(employee));
+        when(employeeRepository.findResponseByEmailUsingHQL("aarav.sharma@example.com")).thenReturn(Optional.of(employeeResponse));
 
         EmployeeResponse response = employeeService.getEmployeeByEmailUsingHQL("aarav.sharma@example.com");
 
         assertNotNull(response);
         assertEquals("aarav.sharma@example.com", response.getEmail());
-        verify(employeeRepository, times(1)).findByEmailUsingHQL("aarav.sharma@example.com");
+        verify(employeeRepository, times(1)).findResponseByEmailUsingHQL("aarav.sharma@example.com");
     }
 
     @Test
     void testGetEmployeeByEmailUsingNativeSQL() {
-        when(employeeRepository.findByEmailUsingNativeSQL("aarav.sharma@example.com")).thenReturn(Optional.of(employee));
+        when(employeeRepository.findResponseByEmailUsingNativeSQL("aarav.sharma@example.com")).thenReturn(Optional.of(employeeResponse));
 
         EmployeeResponse response = employeeService.getEmployeeByEmailUsingNativeSQL("aarav.sharma@example.com");
 
         assertNotNull(response);
         assertEquals("aarav.sharma@example.com", response.getEmail());
-        verify(employeeRepository, times(1)).findByEmailUsingNativeSQL("aarav.sharma@example.com");
+        verify(employeeRepository, times(1)).findResponseByEmailUsingNativeSQL("aarav.sharma@example.com");
+    }
+
+    @Test
+    void testGetEmployeeByEmailUsingNaturalId() {
+        when(employeeRepository.findByEmailUsingNaturalId("aarav.sharma@example.com")).thenReturn(Optional.of(employee));
+
+        EmployeeResponse response = employeeService.getEmployeeByEmailUsingNaturalId("aarav.sharma@example.com");
+
+        assertNotNull(response);
+        assertEquals("aarav.sharma@example.com", response.getEmail());
+        verify(employeeRepository, times(1)).findByEmailUsingNaturalId("aarav.sharma@example.com");
     }
 
     @Test
     @SuppressWarnings("unchecked")
     void testGetEmployeeByNameUsingSpecifications() {
         Specification<Employee> spec = EmployeeSpecifications.hasName("Aarav Sharma");
-        when(employeeRepository.findOne(any(Specification.class))).thenReturn(Optional.of(employee));
+        when(employeeRepository.findResponse(any(Specification.class))).thenReturn(Optional.of(employeeResponse));
 
         EmployeeResponse response = employeeService.getEmployeeByNameUsingSpecifications("Aarav Sharma");
 
         assertNotNull(response);
         assertEquals("Aarav Sharma", response.getName());
-        verify(employeeRepository, times(1)).findOne(any(Specification.class));
+        verify(employeeRepository, times(1)).findResponse(any(Specification.class));
     }
 
     @Test
     void testGetEmployeeByNameUsingHQL() {
-        when(employeeRepository.findByNameUsingHQL("Aarav Sharma")).thenReturn(Optional.of(employee));
+        when(employeeRepository.findResponseByNameUsingHQL("Aarav Sharma")).thenReturn(Optional.of(employeeResponse));
 
         EmployeeResponse response = employeeService.getEmployeeByNameUsingHQL("Aarav Sharma");
 
         assertNotNull(response);
         assertEquals("Aarav Sharma", response.getName());
-        verify(employeeRepository, times(1)).findByNameUsingHQL("Aarav Sharma");
+        verify(employeeRepository, times(1)).findResponseByNameUsingHQL("Aarav Sharma");
     }
 
     @Test
     void testGetEmployeeByNameUsingNativeSQL() {
-        when(employeeRepository.findByNameUsingNativeSQL("Aarav Sharma")).thenReturn(Optional.of(employee));
+        when(employeeRepository.findResponseByNameUsingNativeSQL("Aarav Sharma")).thenReturn(Optional.of(employeeResponse));
 
         EmployeeResponse response = employeeService.getEmployeeByNameUsingNativeSQL("Aarav Sharma");
 
         assertNotNull(response);
         assertEquals("Aarav Sharma", response.getName());
-        verify(employeeRepository, times(1)).findByNameUsingNativeSQL("Aarav Sharma");
+        verify(employeeRepository, times(1)).findResponseByNameUsingNativeSQL("Aarav Sharma");
     }
 
     @Test
@@ -142,48 +220,82 @@ class EmployeeServiceTest {
         updateRequest.setPhone("9876543210");
         updateRequest.setAddress("456 Oak Ave");
 
-        when(employeeRepository.findByEmailUsingHQL("aarav.sharma@example.com")).thenReturn(Optional.of(employee));
-        when(employeeRepository.save(any(Employee.class))).thenReturn(employee);
+        when(employeeRepository.updateByEmail("aarav.sharma@example.com", "Smith", "9876543210", "456 Oak Ave", null)).thenReturn(1);
+        when(employeeRepository.findResponseByEmailUsingHQL("aarav.sharma@example.com")).thenReturn(Optional.of(employeeResponse));
 
-        EmployeeResponse response = employeeService.updateEmployee("aarav.sharma@example.com", updateRequest);
+        EmployeeResponse response = employeeService.updateEmployee("aarav.sharma@example.com", updateRequest, null);
 
         assertNotNull(response);
-        verify(employeeRepository, times(1)).findByEmailUsingHQL("aarav.sharma@example.com");
-        verify(employeeRepository, times(1)).save(any(Employee.class));
+        verify(employeeRepository, times(1)).updateByEmail("aarav.sharma@example.com", "Smith", "9876543210", "456 Oak Ave", null);
+        verify(employeeRepository, never()).save(any(Employee.class));
+    }
+
+    @Test
+    void testUpdateEmployeeNotFound() {
+        UpdateEmployeeRequest updateRequest = new UpdateEmployeeRequest();
+        updateRequest.setLastName("Smith");
+
+        when(employeeRepository.updateByEmail("notfound@example.com", "Smith", null, null, null)).thenReturn(0);
+
+        assertThrows(EmployeeNotFoundException.class, () -> {
+            employeeService.updateEmployee("notfound@example.com", updateRequest, null);
+        });
+        verify(employeeRepository, never()).findResponseByEmailUsingHQL(anyString());
     }
 
     @Test
     void testUpdateEmployeePhone() {
         UpdatePhoneRequest phoneRequest = new UpdatePhoneRequest("9998887777");
 
-        when(employeeRepository.findByEmailUsingHQL("aarav.sharma@example.com")).thenReturn(Optional.of(employee));
-        when(employeeRepository.save(any(Employee.class))).thenReturn(employee);
+        when(employeeRepository.updatePhoneByEmail("aarav.sharma@example.com", "9998887777", null)).thenReturn(1);
+        when(employeeRepository.findResponseByEmailUsingHQL("aarav.sharma@example.com")).thenReturn(Optional.of(employeeResponse));
 
-        EmployeeResponse response = employeeService.updateEmployeePhone("aarav.sharma@example.com", phoneRequest);
+        EmployeeResponse response = employeeService.updateEmployeePhone("aarav.sharma@example.com", phoneRequest, null);
 
         assertNotNull(response);
-        verify(employeeRepository, times(1)).findByEmailUsingHQL("aarav.sharma@example.com");
-        verify(employeeRepository, times(1)).save(any(Employee.class));
+        verify(employeeRepository, times(1)).updatePhoneByEmail("aarav.sharma@example.com", "9998887777", null);
+        verify(employeeRepository, never()).findByEmailUsingNaturalId(anyString());
     }
 
     @Test
     void testDeleteEmployeeByEmail() {
-        when(employeeRepository.findByEmailUsingHQL("aarav.sharma@example.com")).thenReturn(Optional.of(employee));
-        doNothing().when(employeeRepository).delete(any(Employee.class));
+        when(employeeRepository.deleteByEmail("aarav.sharma@example.com", null)).thenReturn(1);
 
-        employeeService.deleteEmployeeByEmail("aarav.sharma@example.com");
+        employeeService.deleteEmployeeByEmail("aarav.sharma@example.com", null);
 
-        verify(employeeRepository, times(1)).findByEmailUsingHQL("aarav.sharma@example.com");
-        verify(employeeRepository, times(1)).delete(any(Employee.class));
+        verify(employeeRepository, times(1)).deleteByEmail("aarav.sharma@example.com", null);
+        verify(employeeRepository, never()).delete(any(Employee.class));
+    }
+
+    @Test
+    void testUpdateEmployeePhoneVersionConflict() {
+        UpdatePhoneRequest phoneRequest = new UpdatePhoneRequest("9998887777");
+
+        when(employeeRepository.updatePhoneByEmail("aarav.sharma@example.com", "9998887777", 3L)).thenReturn(0);
+        when(employeeRepository.existsByEmail("aarav.sharma@example.com")).thenReturn(true);
+
+        assertThrows(VersionConflictException.class, () -> {
+            employeeService.updateEmployeePhone("aarav.sharma@example.com", phoneRequest, 3L);
+        });
+        verify(employeeRepository, never()).findResponseByEmailUsingHQL(anyString());
+    }
+
+    @Test
+    void testDeleteEmployeeByEmailVersionOfMissingEmployee() {
+        when(employeeRepository.deleteByEmail("notfound@example.com", 3L)).thenReturn(0);
+        when(employeeRepository.existsByEmail("notfound@example.com")).thenReturn(false);
+
+        assertThrows(EmployeeNotFoundException.class, () -> {
+            employeeService.deleteEmployeeByEmail("notfound@example.com", 3L);
+        });
     }
 
     @Test
     void testDeleteEmployeeByEmailNotFound() {
-        when(employeeRepository.findByEmailUsingHQL("notfound@example.com")).thenReturn(Optional.empty());
+        when(employeeRepository.deleteByEmail("notfound@example.com", null)).thenReturn(0);
 
-        assertThrows(RuntimeException.class, () -> {
-            employeeService.deleteEmployeeByEmail("notfound@example.com");
+        assertThrows(EmployeeNotFoundException.class, () -> {
+            employeeService.deleteEmployeeByEmail("notfound@example.com", null);
         });
     }
 }
-
@@ -0,0 +1,205 @@
+package com.assignment.employee.service;
+
+import com.assignment.employee.exception.WriteBehindFullException;
+import jakarta.persistence.EntityManagerFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatchers;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PhoneWriteBehindBufferTest {
+    private final List<Map<String, String>> flushedBatches = new CopyOnWriteArrayList<>();
+    private final Deque<Runnable> duringFlush = new ArrayDeque<>();
+    private JdbcTemplate jdbcTemplate;
+    private EmployeeCache employeeCache;
+
+    @TempDir
+    Path journalDirectory;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.batchUpdate(anyString(), ArgumentMatchers.<Collection<Map.Entry<String, String>>>any(), anyInt(),
+                ArgumentMatchers.<ParameterizedPreparedStatementSetter<Map.Entry<String, String>>>any()))
+                .thenAnswer(invocation -> {
+                    Collection<Map.Entry<String, String>> updates = invocation.getArgument(1);
+                    Map<String, String> batch = new LinkedHashMap<>();
+                    updates.forEach(update -> batch.put(update.getKey(), update.getValue()));
+                    flushedBatches.add(batch);
+                    Runnable concurrentWrite = duringFlush.poll();
+                    if (concurrentWrite != null) {
+                        concurrentWrite.run();
+                    }
+                    int[] counts = batch.keySet().stream().mapToInt(email -> email.startsWith("missing") ? 0 : 1).toArray();
+                    return new int[][]{counts};
+                });
+        employeeCache = spy(new EmployeeCache(false, 100, Duration.ofMinutes(1)));
+    }
+
+    @Test
+    void testBurstForOneEmailIsFlushedAsItsLatestPhone() {
+        PhoneWriteBehindBuffer buffer = buffer(10, "memory");
+
+        buffer.submit("a@example.com", "9000000001");
+        buffer.submit("a@example.com", "9000000002");
+        buffer.submit("b@example.com", "9000000003");
+        buffer.submit("a@example.com", "9000000004");
+        buffer.flush();
+
+        assertEquals(List.of(Map.of("a@example.com", "9000000004", "b@example.com", "9000000003")), flushedBatches);
+        assertEquals(4, buffer.stats().getAccepted());
+        assertEquals(2, buffer.stats().getCoalesced());
+        assertEquals(2, buffer.stats().getFlushed());
+        assertEquals(0, buffer.stats().getPending());
+        verify(employeeCache).invalidate("a@example.com");
+        verify(employeeCache).invalidate("b@example.com");
+    }
+
+    @Test
+    void testUnknownEmailsAreCountedAsMissing() {
+        PhoneWriteBehindBuffer buffer = buffer(10, "memory");
+
+        buffer.submit("missing@example.com", "9000000001");
+        buffer.flush();
+
+        assertEquals(1, buffer.stats().getMissing());
+    }
+
+    @Test
+    void testFullBufferRejectsNewEmailsButAcceptsPendingOnes() {
+        PhoneWriteBehindBuffer buffer = buffer(2, "memory");
+        buffer.submit("a@example.com", "9000000001");
+        buffer.submit("b@example.com", "9000000002");
+
+        assertThrows(WriteBehindFullException.class, () -> buffer.submit("c@example.com", "9000000003"));
+        buffer.submit("a@example.com", "9000000004");
+
+        assertEquals(1, buffer.stats().getRejected());
+        assertEquals(2, buffer.stats().getPending());
+    }
+
+    @Test
+    void testDiscardDropsASupersededUpdate() {
+        PhoneWriteBehindBuffer buffer = buffer(10, "memory");
+        buffer.submit("a@example.com", "9000000001");
+
+        buffer.discard("a@example.com");
+        buffer.flush();
+
+        assertTrue(flushedBatches.isEmpty());
+    }
+
+    @Test
+    void testFailedFlushKeepsNewerUpdates() {
+        PhoneWriteBehindBuffer buffer = buffer(10, "memory");
+        buffer.submit("a@example.com", "9000000001");
+        buffer.submit("b@example.com", "9000000002");
+        duringFlush.add(() -> {
+            buffer.submit("b@example.com", "9000000003");
+            throw new IllegalStateException("database down");
+        });
+
+        buffer.flush();
+        assertEquals(1, buffer.stats().getFailedFlushes());
+        assertEquals(2, buffer.stats().getPending());
+
+        buffer.flush();
+        assertEquals(Map.of("a@example.com", "9000000001", "b@example.com", "9000000003"), flushedBatches.get(1));
+    }
+
+    @Test
+    void testSynchronousWriteDuringFlushIsNotOverwritten() {
+        PhoneWriteBehindBuffer buffer = buffer(10, "memory");
+        buffer.submit("a@example.com", "9000000001");
+        buffer.submit("b@example.com", "9000000002");
+        duringFlush.add(() -> buffer.discard("a@example.com"));
+
+        buffer.flush();
+
+        // the first attempt found the tombstone and was rolled back, the retry leaves a out
+        assertEquals(List.of(Map.of("a@example.com", "9000000001", "b@example.com", "9000000002"),
+                Map.of("b@example.com", "9000000002")), flushedBatches);
+        assertEquals(1, buffer.stats().getFlushed());
+        assertEquals(0, buffer.stats().getPending());
+    }
+
+    @Test
+    void testFailedFlushDoesNotResurrectADiscardedUpdate() {
+        PhoneWriteBehindBuffer buffer = buffer(10, "memory");
+        buffer.submit("a@example.com", "9000000001");
+        buffer.submit("b@example.com", "9000000002");
+        duringFlush.add(() -> {
+            buffer.discard("a@example.com");
+            throw new IllegalStateException("database down");
+        });
+
+        buffer.flush();
+        assertEquals(1, buffer.stats().getFailedFlushes());
+        assertEquals(1, buffer.stats().getPending());
+
+        buffer.flush();
+        assertEquals(Map.of("b@example.com", "9000000002"), flushedBatches.get(1));
+    }
+
+    @Test
+    void testJournalIsReplayedAfterACrash() throws Exception {
+        PhoneWriteBehindBuffer crashed = buffer(10, "journal");
+        crashed.start();
+        crashed.submit("a@example.com", "9000000001");
+        crashed.submit("a@example.com", "+91 90000 00002");
+        // no stop(): the process died with the update still pending
+
+        PhoneWriteBehindBuffer restarted = buffer(10, "journal");
+        restarted.start();
+        restarted.stop();
+
+        assertEquals(List.of(Map.of("a@example.com", "+91 90000 00002")), flushedBatches);
+        try (Stream<Path> segments = Files.list(journalDirectory)) {
+            assertEquals(1, segments.count(), "only the empty segment opened by the restart should remain");
+        }
+    }
+
+    @Test
+    void testJournaledDiscardIsHonouredOnReplay() throws Exception {
+        PhoneWriteBehindBuffer crashed = buffer(10, "journal");
+        crashed.start();
+        crashed.submit("a@example.com", "9000000001");
+        crashed.submit("b@example.com", "9000000002");
+        // a synchronous write to a committed before the crash
+        crashed.discard("a@example.com");
+
+        PhoneWriteBehindBuffer restarted = buffer(10, "journal");
+        restarted.start();
+        restarted.stop();
+
+        assertEquals(List.of(Map.of("b@example.com", "9000000002")), flushedBatches);
+    }
+
+    private PhoneWriteBehindBuffer buffer(int capacity, String durability) {
+        PhoneWriteBehindBuffer buffer = new PhoneWriteBehindBuffer(true, Duration.ofMinutes(1), 100, capacity,
+                Duration.ofMillis(50), durability, journalDirectory);
+        ReflectionTestUtils.setField(buffer, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(buffer, "transactionManager", mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(buffer, "employeeCache", employeeCache);
+        ReflectionTestUtils.setField(buffer, "employeeJsonCache", new EmployeeJsonCache(new ObjectMapper(), false, 100, Duration.ofMinutes(1)));
+        ReflectionTestUtils.setField(buffer, "requestCoalescer", new RequestCoalescer(true));
+        ReflectionTestUtils.setField(buffer, "entityManagerFactory", mock(EntityManagerFactory.class, RETURNS_DEEP_STUBS));
+        return buffer;
+    }
+}
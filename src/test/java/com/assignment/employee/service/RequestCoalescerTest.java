@@ -0,0 +1,112 @@
+package com.assignment.employee.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestCoalescerTest {
+    private final RequestCoalescer requestCoalescer = new RequestCoalescer(true);
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testConcurrentCallersShareOneLoad() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        Callable<String> call = () -> requestCoalescer.execute("email:hql:a@example.com", () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "loaded";
+        });
+
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(call));
+        waitForInFlight();
+        for (int i = 0; i < 7; i++) {
+            results.add(executor.submit(call));
+        }
+        waitForCoalesced(7);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("loaded", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1, requestCoalescer.stats().getExecutions());
+        assertEquals(7, requestCoalescer.stats().getCoalesced());
+        assertEquals(0, requestCoalescer.stats().getInFlight());
+    }
+
+    @Test
+    void testFailureIsSharedWithWaitingCallers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Callable<String> call = () -> requestCoalescer.execute("key", () -> {
+            await(release);
+            throw new IllegalStateException("boom");
+        });
+
+        Future<String> leader = executor.submit(call);
+        waitForInFlight();
+        Future<String> follower = executor.submit(call);
+        waitForCoalesced(1);
+        release.countDown();
+
+        ExecutionException leaderFailure = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        ExecutionException followerFailure = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, leaderFailure.getCause());
+        assertInstanceOf(IllegalStateException.class, followerFailure.getCause());
+    }
+
+    @Test
+    void testCallersAfterAWriteDoNotJoinOlderLoads() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        Future<String> before = executor.submit(() -> requestCoalescer.execute("key", () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "old";
+        }));
+        waitForInFlight();
+        requestCoalescer.invalidate();
+
+        assertEquals("new", requestCoalescer.execute("key", () -> {
+            loads.incrementAndGet();
+            return "new";
+        }));
+        release.countDown();
+        assertEquals("old", before.get(5, TimeUnit.SECONDS));
+        assertEquals(2, loads.get());
+        assertEquals(0, requestCoalescer.stats().getCoalesced());
+    }
+
+    private void waitForInFlight() throws InterruptedException {
+        while (requestCoalescer.stats().getInFlight() == 0) {
+            Thread.sleep(1);
+        }
+    }
+
+    private void waitForCoalesced(long count) throws InterruptedException {
+        while (requestCoalescer.stats().getCoalesced() < count) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
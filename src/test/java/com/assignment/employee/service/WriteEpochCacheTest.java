@@ -0,0 +1,78 @@
+package com.assignment.employee.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteEpochCacheTest {
+    private static final String KEY = "aarav.sharma@example.com";
+
+    private final ExecutorService writer = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        writer.shutdownNow();
+    }
+
+    @Test
+    void testWriteCommittingBetweenLoadAndPutIsNotCached() throws Exception {
+        WriteEpochCache<String> cache = new WriteEpochCache<>(100, Duration.ofMinutes(1));
+        long epoch = cache.epoch();
+        String loaded = "stale";
+
+        // the writer commits after the row was read but before the reader caches it
+        writer.submit(() -> commitWrite(cache)).get(5, TimeUnit.SECONDS);
+        cache.putIfUnchangedSince(epoch, KEY, loaded);
+
+        assertNull(cache.getIfPresent(KEY));
+    }
+
+    @Test
+    void testWriteCommittingWhileThePutIsInProgressIsNotLost() throws Exception {
+        CountDownLatch putting = new CountDownLatch(1);
+        CountDownLatch committed = new CountDownLatch(1);
+        // Caffeine weighs a value while storing it, i.e. after the epoch has been checked
+        WriteEpochCache<String> cache = new WriteEpochCache<>(Caffeine.newBuilder()
+                .maximumWeight(100)
+                .weigher((Object key, Object value) -> {
+                    putting.countDown();
+                    try {
+                        committed.await(200, TimeUnit.MILLISECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return 1;
+                }));
+        long epoch = cache.epoch();
+
+        Future<?> write = writer.submit(() -> {
+            putting.await();
+            commitWrite(cache);
+            committed.countDown();
+            return null;
+        });
+        cache.putIfUnchangedSince(epoch, KEY, "stale");
+        write.get(5, TimeUnit.SECONDS);
+
+        assertNull(cache.getIfPresent(KEY));
+    }
+
+    private static void commitWrite(WriteEpochCache<String> cache) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidate(KEY);
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}